@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.annotations.Description;
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.stream.Stream;
+
+/**
+ * Test class whose methods are used as test method references by the benchmarks, it's never executed by JUnit
+ */
+@Attributes(attributes = { @Attribute(key = "benchmark", value = "class") })
+public class BenchmarkTestClass {
+
+	@Test
+	public void simpleTest() {
+	}
+
+	@Test
+	@Description("An annotated test")
+	@TestCaseId("benchmark-test-case-id")
+	@Attributes(attributes = { @Attribute(key = "benchmark", value = "method") })
+	public void annotatedTest() {
+	}
+
+	@Test
+	public void parameterizedTest(@ParameterKey("name") String name, int count) {
+	}
+
+	@TestFactory
+	public Stream<DynamicTest> dynamicTests() {
+		return Stream.empty();
+	}
+}
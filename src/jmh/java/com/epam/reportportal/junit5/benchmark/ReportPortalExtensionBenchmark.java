@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.junit5.ItemType;
+import com.epam.reportportal.junit5.ReportPortalExtension;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the agent's own cost of a single test: every benchmark drives {@link ReportPortalExtension} callbacks in the same order as
+ * the JUnit engine does, but with stub contexts and a {@link StubReportPortalClient}, so no time is spent on test execution or network.
+ * Run with <code>./gradlew jmh</code>, the task attaches the GC profiler to report allocated bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportPortalExtensionBenchmark {
+
+	private static final InvocationInterceptor.Invocation<Void> NO_OP = () -> null;
+
+	/**
+	 * Exposes protected extension methods to the benchmarks and binds the extension to the stub client
+	 */
+	public static class BenchmarkExtension extends ReportPortalExtension {
+		private final ReportPortal reportPortal;
+		private final String launchId = UUID.randomUUID().toString();
+
+		public BenchmarkExtension() {
+			ListenerParameters parameters = new ListenerParameters();
+			parameters.setEnable(true);
+			parameters.setClientJoin(false);
+			parameters.setLaunchName("jmh-benchmark");
+			parameters.setProjectName("benchmark");
+			reportPortal = ReportPortal.create(new StubReportPortalClient(), parameters);
+		}
+
+		@Override
+		protected ReportPortal getReporter() {
+			return reportPortal;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			return launchId;
+		}
+
+		public StartTestItemRQ startStepRq(ExtensionContext context, List<Object> arguments) {
+			return buildStartStepRq(context, arguments, ItemType.STEP, null, null);
+		}
+
+		public String codeRef(ExtensionContext context) {
+			return getCodeRef(context);
+		}
+
+		public TestCaseIdEntry testCaseId(Method method, String codeRef, List<Object> arguments) {
+			return getTestCaseId(method, codeRef, arguments, null);
+		}
+
+		public Optional<?> itemId(ExtensionContext context) {
+			return getItemId(context);
+		}
+	}
+
+	private static final class MethodInvocationContext implements ReflectiveInvocationContext<Method> {
+		private final Method method;
+		private final List<Object> arguments;
+
+		private MethodInvocationContext(Method method, List<Object> arguments) {
+			this.method = method;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public Class<?> getTargetClass() {
+			return method.getDeclaringClass();
+		}
+
+		@Override
+		public Method getExecutable() {
+			return method;
+		}
+
+		@Override
+		public List<Object> getArguments() {
+			return arguments;
+		}
+
+		@Override
+		public Optional<Object> getTarget() {
+			return Optional.empty();
+		}
+	}
+
+	private final AtomicLong counter = new AtomicLong();
+
+	private BenchmarkExtension extension;
+	private StubExtensionContext classContext;
+	private StubExtensionContext factoryContext;
+	private Method simpleTest;
+	private Method annotatedTest;
+	private Method parameterizedTest;
+	private List<Object> arguments;
+	private DynamicTestInvocationContext dynamicInvocationContext;
+
+	@Setup(Level.Trial)
+	public void setup() throws Throwable {
+		extension = new BenchmarkExtension();
+		simpleTest = BenchmarkTestClass.class.getMethod("simpleTest");
+		annotatedTest = BenchmarkTestClass.class.getMethod("annotatedTest");
+		parameterizedTest = BenchmarkTestClass.class.getMethod("parameterizedTest", String.class, int.class);
+		arguments = Arrays.asList("first", 1);
+		dynamicInvocationContext = () -> () -> {
+		};
+
+		StubExtensionContext engineContext = StubExtensionContext.engine("[engine:junit-jupiter]");
+		classContext = StubExtensionContext.testClass(engineContext, BenchmarkTestClass.class);
+		extension.beforeAll(classContext);
+		Method dynamicTests = BenchmarkTestClass.class.getMethod("dynamicTests");
+		factoryContext = StubExtensionContext.testMethod(classContext, dynamicTests, "", null);
+		extension.interceptTestFactoryMethod(NO_OP, new MethodInvocationContext(dynamicTests, Collections.emptyList()), factoryContext);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		extension.afterTestExecution(factoryContext);
+		extension.afterAll(classContext);
+		extension.finish();
+	}
+
+	private StubExtensionContext nextTestContext(Method method) {
+		return StubExtensionContext.testMethod(classContext, method, "[" + counter.incrementAndGet() + "]", null);
+	}
+
+	private Object runTest(Method method, List<Object> arguments) throws Throwable {
+		StubExtensionContext context = nextTestContext(method);
+		extension.interceptTestMethod(NO_OP, new MethodInvocationContext(method, arguments), context);
+		extension.afterTestExecution(context);
+		return context;
+	}
+
+	@Benchmark
+	public Object simpleTest() throws Throwable {
+		return runTest(simpleTest, Collections.emptyList());
+	}
+
+	@Benchmark
+	public Object annotatedTest() throws Throwable {
+		return runTest(annotatedTest, Collections.emptyList());
+	}
+
+	@Benchmark
+	public Object parameterizedTest() throws Throwable {
+		return runTest(parameterizedTest, arguments);
+	}
+
+	@Benchmark
+	public Object dynamicTest() throws Throwable {
+		StubExtensionContext context = StubExtensionContext.dynamicTest(factoryContext, "dynamic-" + counter.incrementAndGet());
+		extension.interceptDynamicTest(NO_OP, dynamicInvocationContext, context);
+		return context;
+	}
+
+	@Benchmark
+	public Object testClass() {
+		StubExtensionContext context = StubExtensionContext.testClass(classContext, BenchmarkTestClass.class);
+		extension.beforeAll(context);
+		extension.afterAll(context);
+		return context;
+	}
+
+	@Benchmark
+	public Object failedTest() throws Throwable {
+		StubExtensionContext context = nextTestContext(simpleTest);
+		extension.interceptTestMethod(NO_OP, new MethodInvocationContext(simpleTest, Collections.emptyList()), context);
+		context.setExecutionException(new AssertionError("Benchmark failure"));
+		extension.afterTestExecution(context);
+		return context;
+	}
+
+	@Benchmark
+	public StartTestItemRQ buildStartStepRq() {
+		return extension.startStepRq(nextTestContext(parameterizedTest), arguments);
+	}
+
+	@Benchmark
+	public String getCodeRef() {
+		return extension.codeRef(StubExtensionContext.dynamicTest(factoryContext, "dynamic"));
+	}
+
+	@Benchmark
+	public TestCaseIdEntry getTestCaseId() {
+		return extension.testCaseId(parameterizedTest, "com.epam.reportportal.junit5.benchmark.BenchmarkTestClass.parameterizedTest", arguments);
+	}
+
+	@Benchmark
+	public Object idMappingLookup() {
+		return extension.itemId(classContext);
+	}
+}
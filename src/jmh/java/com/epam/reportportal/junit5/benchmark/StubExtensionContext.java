@@ -0,0 +1,252 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExecutableInvoker;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Minimal {@link ExtensionContext} implementation which mimics JUnit's engine, class, method and dynamic contexts without running the
+ * JUnit engine itself
+ */
+public class StubExtensionContext implements ExtensionContext {
+
+	private final ExtensionContext parent;
+	private final String uniqueId;
+	private final String displayName;
+	private final Class<?> testClass;
+	private final Method testMethod;
+	private final Object testInstance;
+	private final Map<List<Object>, Object> values = new ConcurrentHashMap<>();
+	private volatile Throwable executionException;
+
+	private StubExtensionContext(@Nullable ExtensionContext parent, @Nonnull String uniqueId, @Nonnull String displayName,
+			@Nullable Class<?> testClass, @Nullable Method testMethod, @Nullable Object testInstance) {
+		this.parent = parent;
+		this.uniqueId = uniqueId;
+		this.displayName = displayName;
+		this.testClass = testClass;
+		this.testMethod = testMethod;
+		this.testInstance = testInstance;
+	}
+
+	public static StubExtensionContext engine(@Nonnull String uniqueId) {
+		return new StubExtensionContext(null, uniqueId, "JUnit Jupiter", null, null, null);
+	}
+
+	public static StubExtensionContext testClass(@Nonnull ExtensionContext parent, @Nonnull Class<?> testClass) {
+		return new StubExtensionContext(
+				parent,
+				parent.getUniqueId() + "/[class:" + testClass.getName() + "]",
+				testClass.getSimpleName(),
+				testClass,
+				null,
+				null
+		);
+	}
+
+	public static StubExtensionContext testMethod(@Nonnull ExtensionContext parent, @Nonnull Method method, @Nonnull String suffix,
+			@Nullable Object instance) {
+		return new StubExtensionContext(
+				parent,
+				parent.getUniqueId() + "/[method:" + method.getName() + "()]" + suffix,
+				method.getName() + "()",
+				method.getDeclaringClass(),
+				method,
+				instance
+		);
+	}
+
+	public static StubExtensionContext dynamicTest(@Nonnull ExtensionContext parent, @Nonnull String displayName) {
+		return new StubExtensionContext(
+				parent,
+				parent.getUniqueId() + "/[dynamic-test:" + displayName + "]",
+				displayName,
+				null,
+				null,
+				null
+		);
+	}
+
+	public void setExecutionException(@Nullable Throwable executionException) {
+		this.executionException = executionException;
+	}
+
+	@Override
+	public Optional<ExtensionContext> getParent() {
+		return ofNullable(parent);
+	}
+
+	@Override
+	public ExtensionContext getRoot() {
+		return parent == null ? this : parent.getRoot();
+	}
+
+	@Override
+	public String getUniqueId() {
+		return uniqueId;
+	}
+
+	@Override
+	public String getDisplayName() {
+		return displayName;
+	}
+
+	@Override
+	public Set<String> getTags() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public Optional<AnnotatedElement> getElement() {
+		return ofNullable(testMethod != null ? testMethod : testClass);
+	}
+
+	@Override
+	public Optional<Class<?>> getTestClass() {
+		return ofNullable(testClass);
+	}
+
+	@Override
+	public Optional<TestInstance.Lifecycle> getTestInstanceLifecycle() {
+		return Optional.of(TestInstance.Lifecycle.PER_METHOD);
+	}
+
+	@Override
+	public Optional<Object> getTestInstance() {
+		return ofNullable(testInstance);
+	}
+
+	@Override
+	public Optional<TestInstances> getTestInstances() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Method> getTestMethod() {
+		return ofNullable(testMethod);
+	}
+
+	@Override
+	public Optional<Throwable> getExecutionException() {
+		return ofNullable(executionException);
+	}
+
+	@Override
+	public Optional<String> getConfigurationParameter(String key) {
+		return Optional.empty();
+	}
+
+	@Override
+	public <T> Optional<T> getConfigurationParameter(String key, Function<String, T> transformer) {
+		return Optional.empty();
+	}
+
+	@Override
+	public void publishReportEntry(Map<String, String> map) {
+	}
+
+	@Override
+	public Store getStore(Namespace namespace) {
+		return new StubStore(namespace);
+	}
+
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return ExecutionMode.SAME_THREAD;
+	}
+
+	@Override
+	public ExecutableInvoker getExecutableInvoker() {
+		throw new UnsupportedOperationException("Executable invocation is not supported by the stub context");
+	}
+
+	/**
+	 * A store which looks values up in stores of parent contexts, the same way as JUnit's one does
+	 */
+	private final class StubStore implements Store {
+		private final Namespace namespace;
+
+		private StubStore(@Nonnull Namespace namespace) {
+			this.namespace = namespace;
+		}
+
+		@Nonnull
+		private List<Object> key(@Nonnull Object key) {
+			return Arrays.asList(namespace, key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			Object value = values.get(key(key));
+			if (value == null && parent != null) {
+				return parent.getStore(namespace).get(key);
+			}
+			return value;
+		}
+
+		@Override
+		public <V> V get(Object key, Class<V> requiredType) {
+			return requiredType.cast(get(key));
+		}
+
+		@Override
+		public <K, V> Object getOrComputeIfAbsent(K key, Function<K, V> defaultCreator) {
+			Object value = get(key);
+			if (value != null) {
+				return value;
+			}
+			// the creator is called outside the map, since the extension puts other values into the same store from creators
+			Object created = defaultCreator.apply(key);
+			Object existing = values.putIfAbsent(key(key), created);
+			return existing != null ? existing : created;
+		}
+
+		@Override
+		public <K, V> V getOrComputeIfAbsent(K key, Function<K, V> defaultCreator, Class<V> requiredType) {
+			return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+		}
+
+		@Override
+		public void put(Object key, Object value) {
+			values.put(key(key), value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return values.remove(key(key));
+		}
+
+		@Override
+		public <V> V remove(Object key, Class<V> requiredType) {
+			return requiredType.cast(remove(key));
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link ReportPortalClient} which answers every request immediately without any I/O, so benchmarks measure the agent's own cost only
+ */
+public class StubReportPortalClient implements ReportPortalClient {
+
+	private static final Maybe<OperationCompletionRS> OPERATION_COMPLETED = Maybe.just(new OperationCompletionRS());
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return Maybe.just(new StartLaunchRS(UUID.randomUUID().toString(), 1L));
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchUuid, UpdateLaunchRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		return OPERATION_COMPLETED;
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		String uuid = UUID.randomUUID().toString();
+		return Maybe.just(new ItemCreatedRS(uuid, uuid));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		return startTestItem(rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		return OPERATION_COMPLETED;
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return Maybe.just(new EntryCreatedAsyncRS(UUID.randomUUID().toString()));
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> rq) {
+		return Maybe.just(new BatchSaveOperatingRS());
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String uuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String uuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return Maybe.empty();
+	}
+}
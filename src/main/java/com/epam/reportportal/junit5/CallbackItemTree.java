@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maintains callback reporting leaves in a {@link TestItemTree}. Every leaf is put into its parent's child items (or into the tree
+ * root) under a key with the item's unique ID, and also into the tree root under a key with the item's name, to keep
+ * {@link com.epam.reportportal.junit5.utils.ItemTreeUtils#retrieveLeaf(String, TestItemTree)} working. If the callback window is
+ * set a leaf is evicted from both places once its finish response is resolved and the window is passed. Evictions are performed
+ * lazily on item start and finish, so no additional threads are used. Without the window leaves are kept till the end of the run and
+ * no eviction bookkeeping is done.
+ */
+final class CallbackItemTree {
+
+	private static final class Node {
+		private final TestItemTree.TestItemLeaf leaf;
+		private final Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> siblings;
+		private final TestItemTree.ItemTreeKey nameKey;
+
+		private Node(@Nonnull TestItemTree.TestItemLeaf leaf, @Nonnull Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> siblings,
+				@Nonnull TestItemTree.ItemTreeKey nameKey) {
+			this.leaf = leaf;
+			this.siblings = siblings;
+			this.nameKey = nameKey;
+		}
+	}
+
+	private static final class Eviction {
+		private final long deadline;
+		private final String id;
+
+		private Eviction(long deadline, @Nonnull String id) {
+			this.deadline = deadline;
+			this.id = id;
+		}
+	}
+
+	private final TestItemTree tree;
+	private final long window;
+	private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+	private final Queue<Eviction> evictions = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param tree         a tree to maintain
+	 * @param windowMillis time in milliseconds during which a leaf is kept after its finish response is resolved, negative value
+	 *                     disables eviction
+	 */
+	CallbackItemTree(@Nonnull TestItemTree tree, long windowMillis) {
+		this.tree = tree;
+		this.window = windowMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(windowMillis);
+	}
+
+	/**
+	 * Puts a leaf of a started item into the tree
+	 *
+	 * @param id     unique ID of the item
+	 * @param parent leaf of the parent item, or <code>null</code> for root items
+	 * @param name   name of the item
+	 * @param leaf   the leaf to put
+	 */
+	void addLeaf(@Nonnull String id, @Nullable TestItemTree.TestItemLeaf parent, @Nonnull String name,
+			@Nonnull TestItemTree.TestItemLeaf leaf) {
+		evictExpired();
+		Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> siblings = parent == null ? tree.getTestItems() : parent.getChildItems();
+		TestItemTree.ItemTreeKey nameKey = TestItemTree.ItemTreeKey.of(name);
+		siblings.put(TestItemTree.ItemTreeKey.of(id), leaf);
+		tree.getTestItems().put(nameKey, leaf);
+		if (window >= 0) {
+			nodes.put(id, new Node(leaf, siblings, nameKey));
+		}
+	}
+
+	/**
+	 * @param id unique ID of an item
+	 * @return the item's leaf or <code>null</code> if there is no such leaf, it was already evicted or eviction is disabled
+	 */
+	@Nullable
+	TestItemTree.TestItemLeaf getLeaf(@Nonnull String id) {
+		Node node = nodes.get(id);
+		return node == null ? null : node.leaf;
+	}
+
+	/**
+	 * Sets the finish response of an item and schedules its leaf eviction once the response is resolved
+	 *
+	 * @param id             unique ID of the item
+	 * @param leaf           the item's leaf, or <code>null</code> if there is no such leaf
+	 * @param finishResponse the item's finish response
+	 */
+	void finishLeaf(@Nonnull String id, @Nullable TestItemTree.TestItemLeaf leaf, @Nullable Maybe<OperationCompletionRS> finishResponse) {
+		evictExpired();
+		if (leaf == null) {
+			return;
+		}
+		leaf.setFinishResponse(finishResponse);
+		if (!nodes.containsKey(id)) {
+			return;
+		}
+		if (finishResponse == null) {
+			scheduleEviction(id);
+		} else {
+			//noinspection ResultOfMethodCallIgnored
+			finishResponse.subscribe(rs -> scheduleEviction(id), e -> scheduleEviction(id), () -> scheduleEviction(id));
+		}
+	}
+
+	private void scheduleEviction(@Nonnull String id) {
+		evictions.add(new Eviction(System.nanoTime() + window, id));
+	}
+
+	/**
+	 * Evicts leaves whose callback window is passed
+	 */
+	void evictExpired() {
+		long now = System.nanoTime();
+		Eviction head;
+		while ((head = evictions.peek()) != null && now - head.deadline >= 0) {
+			if (evictions.remove(head)) {
+				evict(head.id);
+			}
+		}
+	}
+
+	private void evict(@Nonnull String id) {
+		Node node = nodes.remove(id);
+		if (node == null) {
+			return;
+		}
+		node.siblings.remove(TestItemTree.ItemTreeKey.of(id), node.leaf);
+		tree.getTestItems().remove(node.nameKey, node.leaf);
+	}
+
+	/**
+	 * @return number of leaves which are tracked for eviction and not evicted yet
+	 */
+	int size() {
+		return nodes.size();
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.annotations.Description;
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.utils.AttributeParser;
+import com.epam.reportportal.utils.ParameterUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Reporting metadata of a test method or class, which is parsed from annotations once and then reused by every test invocation
+ */
+final class ElementMetadata {
+
+	private static final ClassValue<ElementMetadata> CLASSES = new ClassValue<ElementMetadata>() {
+		@Override
+		protected ElementMetadata computeValue(@Nonnull Class<?> type) {
+			return new ElementMetadata(type);
+		}
+	};
+
+	private static final ClassValue<ConcurrentMap<Method, ElementMetadata>> METHODS = new ClassValue<ConcurrentMap<Method, ElementMetadata>>() {
+		@Override
+		protected ConcurrentMap<Method, ElementMetadata> computeValue(@Nonnull Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final String codeRef;
+	private final List<ItemAttributesRQ> attributes;
+	private final String description;
+	private final TestCaseId testCaseId;
+	private final List<String> parameterKeys;
+
+	private ElementMetadata(@Nonnull Class<?> testClass) {
+		codeRef = testClass.getCanonicalName();
+		attributes = parseAttributes(testClass);
+		description = ofNullable(testClass.getAnnotation(Description.class)).map(Description::value).orElse(null);
+		testCaseId = null;
+		parameterKeys = Collections.emptyList();
+	}
+
+	private ElementMetadata(@Nonnull Method method) {
+		codeRef = method.getDeclaringClass().getCanonicalName() + "." + method.getName();
+		attributes = parseAttributes(method);
+		description = ofNullable(method.getAnnotation(Description.class)).map(Description::value)
+				.orElseGet(() -> of(method.getDeclaringClass()).getDescription());
+		testCaseId = method.getAnnotation(TestCaseId.class);
+		Parameter[] parameters = method.getParameters();
+		List<String> keys = new ArrayList<>(parameters.length);
+		for (Parameter parameter : parameters) {
+			keys.add(ofNullable(parameter.getAnnotation(ParameterKey.class)).map(ParameterKey::value)
+					.orElseGet(() -> parameter.getType().getName()));
+		}
+		parameterKeys = Collections.unmodifiableList(keys);
+	}
+
+	@Nonnull
+	private static List<ItemAttributesRQ> parseAttributes(@Nonnull AnnotatedElement element) {
+		return ofNullable(element.getAnnotation(Attributes.class)).map(AttributeParser::retrieveAttributes)
+				.<List<ItemAttributesRQ>>map(a -> Collections.unmodifiableList(new ArrayList<>(a)))
+				.orElse(Collections.emptyList());
+	}
+
+	@Nonnull
+	static ElementMetadata of(@Nonnull Class<?> testClass) {
+		return CLASSES.get(testClass);
+	}
+
+	@Nonnull
+	static ElementMetadata of(@Nonnull Method method) {
+		return METHODS.get(method.getDeclaringClass()).computeIfAbsent(method, ElementMetadata::new);
+	}
+
+	/**
+	 * @return a code reference of a method or class
+	 */
+	@Nonnull
+	String getCodeRef() {
+		return codeRef;
+	}
+
+	/**
+	 * @return a new mutable set of attributes, since requests are allowed to be modified after creation
+	 */
+	@Nonnull
+	Set<ItemAttributesRQ> getAttributes() {
+		if (attributes.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return attributes.stream().map(a -> new ItemAttributesRQ(a.getKey(), a.getValue(), a.isSystem())).collect(Collectors.toSet());
+	}
+
+	/**
+	 * @return {@link Description} value of a method, or of its declaring class if the method is not annotated
+	 */
+	@Nullable
+	String getDescription() {
+		return description;
+	}
+
+	@Nullable
+	TestCaseId getTestCaseId() {
+		return testCaseId;
+	}
+
+	/**
+	 * Builds parameters the same way as {@link ParameterUtils#getParameters(java.lang.reflect.Executable, List)}
+	 *
+	 * @param arguments a list of parameter values
+	 * @return a list of parameters
+	 */
+	@Nonnull
+	List<ParameterResource> getParameters(@Nullable List<Object> arguments) {
+		List<Object> values = ofNullable(arguments).orElse(Collections.emptyList());
+		List<ParameterResource> result = new ArrayList<>(parameterKeys.size());
+		for (int i = 0; i < parameterKeys.size(); i++) {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(parameterKeys.get(i));
+			Object value = i < values.size() ? values.get(i) : null;
+			parameter.setValue(value == null ? ParameterUtils.NULL_VALUE : String.valueOf(value));
+			result.add(parameter);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Properties;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * JUnit 5 agent specific configuration properties. Every property is looked up in JVM system properties first and then in
+ * <code>reportportal.properties</code> file, the same way as ReportPortal client properties are.
+ */
+public enum ExtensionProperty {
+	/**
+	 * Directory where spool journals are written, if set the extension doesn't send anything to ReportPortal during the run
+	 */
+	SPOOL_DIRECTORY("rp.junit5.spool.directory"),
+	/**
+	 * Time in milliseconds during which a callback reporting leaf is kept in the item tree after its item is finished, not set or
+	 * negative value keeps leaves till the end of the run
+	 */
+	CALLBACK_WINDOW("rp.junit5.callback.window"),
+	/**
+	 * Whether frames of test frameworks, build tools and reflection are filtered from reported stack traces, <code>true</code> by default
+	 */
+	STACK_TRACE_FILTER("rp.junit5.stacktrace.filter"),
+	/**
+	 * Comma-separated class name prefixes of frames to filter from reported stack traces in addition to the default ones
+	 */
+	STACK_TRACE_FILTER_PACKAGES("rp.junit5.stacktrace.filter.packages"),
+	/**
+	 * Maximum number of frames reported per exception
+	 */
+	STACK_TRACE_MAX_FRAMES("rp.junit5.stacktrace.frames"),
+	/**
+	 * Maximum number of caused by and suppressed exceptions reported per stack trace
+	 */
+	STACK_TRACE_MAX_CAUSES("rp.junit5.stacktrace.causes"),
+	/**
+	 * Whether a repeated stack trace is reported once per launch and later occurrences refer to it, <code>true</code> by default
+	 */
+	STACK_TRACE_DEDUPLICATION("rp.junit5.stacktrace.deduplication"),
+	/**
+	 * Number of failures with the same root cause within {@link #FAILURE_STORM_WINDOW} which start a failure storm, non-positive value
+	 * disables storm detection
+	 */
+	FAILURE_STORM_THRESHOLD("rp.junit5.storm.threshold"),
+	/**
+	 * Time window in milliseconds for failure storm detection
+	 */
+	FAILURE_STORM_WINDOW("rp.junit5.storm.window"),
+	/**
+	 * Threads which run reporting I/O: <code>platform</code> (default) for a fixed pool of <code>rp.io.pool.size</code> threads, or
+	 * <code>virtual</code> for a virtual thread per task, see {@link com.epam.reportportal.junit5.utils.ExecutorMode}
+	 */
+	EXECUTOR_MODE("rp.junit5.executor"),
+	/**
+	 * Whether agent metrics are recorded and published as a JMX MBean, <code>false</code> by default, see
+	 * {@link com.epam.reportportal.junit5.metrics.AgentMetrics}
+	 */
+	METRICS("rp.junit5.metrics"),
+	/**
+	 * Maximum number of item start and finish requests which are sent and not completed yet, test threads wait for a free slot,
+	 * non-positive value (default) disables the limit
+	 */
+	IN_FLIGHT_ITEMS("rp.junit5.inflight.items"),
+	/**
+	 * Maximum size in bytes of log batches which are sent and not completed yet, non-positive value (default) disables the limit
+	 */
+	IN_FLIGHT_BYTES("rp.junit5.inflight.bytes"),
+	/**
+	 * What happens to a log batch which exceeds {@link #IN_FLIGHT_BYTES}: <code>block</code> (default), <code>drop_logs</code> or
+	 * <code>spill</code>, see {@link com.epam.reportportal.junit5.budget.BackpressurePolicy}
+	 */
+	IN_FLIGHT_POLICY("rp.junit5.inflight.policy"),
+	/**
+	 * Directory of the disk queue for <code>spill</code> policy, <code>rp-junit5-spill</code> in the temporary directory by default
+	 */
+	SPILL_DIRECTORY("rp.junit5.inflight.spill.directory"),
+	/**
+	 * Whether item logs are buffered till the item finish and sent only if the item is not passed, <code>false</code> by default, see
+	 * {@link com.epam.reportportal.junit5.retention.RetentionReportPortalClient}
+	 */
+	LOG_RETENTION("rp.junit5.logs.retention"),
+	/**
+	 * Minimal level of buffered logs which are still sent for passed items, all of them are dropped if not set
+	 */
+	LOG_RETENTION_LEVEL("rp.junit5.logs.retention.level"),
+	/**
+	 * Maximum size in bytes of buffered logs per item, the oldest logs are dropped from a full buffer, 1 MiB by default
+	 */
+	LOG_RETENTION_BUFFER("rp.junit5.logs.retention.buffer");
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionProperty.class);
+
+	private static volatile Properties fileProperties;
+
+	private final String propertyName;
+
+	ExtensionProperty(String propertyName) {
+		this.propertyName = propertyName;
+	}
+
+	@Nonnull
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	@Nonnull
+	private static Properties getFileProperties() {
+		Properties properties = fileProperties;
+		if (properties == null) {
+			properties = PropertiesLoader.load().getProperties();
+			fileProperties = properties;
+		}
+		return properties;
+	}
+
+	/**
+	 * @return property value or <code>null</code> if the property is not set
+	 */
+	@Nullable
+	public String getValue() {
+		String value = ofNullable(System.getProperty(propertyName)).orElseGet(() -> getFileProperties().getProperty(propertyName));
+		return value == null || value.trim().isEmpty() ? null : value.trim();
+	}
+
+	public boolean getValue(boolean defaultValue) {
+		return ofNullable(getValue()).map(Boolean::parseBoolean).orElse(defaultValue);
+	}
+
+	public int getValue(int defaultValue) {
+		return ofNullable(getValue()).map(v -> parse(v, Integer::parseInt, defaultValue)).orElse(defaultValue);
+	}
+
+	public long getValue(long defaultValue) {
+		return ofNullable(getValue()).map(v -> parse(v, Long::parseLong, defaultValue)).orElse(defaultValue);
+	}
+
+	// properties are read in static initializers, so a malformed value shouldn't fail the extension class loading
+	@Nonnull
+	private <T extends Number> T parse(@Nonnull String value, @Nonnull Function<String, T> parser, @Nonnull T defaultValue) {
+		try {
+			return parser.apply(value);
+		} catch (NumberFormatException e) {
+			LOGGER.warn("Invalid value '{}' of '{}' property, '{}' is used", value, propertyName, defaultValue);
+			return defaultValue;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues item timestamps which keep items order in a report. Start times of items with the same parent are strictly increasing, even
+ * if items start within the same millisecond or on different threads. Children start after their parent. An item's end time is not
+ * less than its start time, than start times of its children and than end times of its children. To do that the latest issued
+ * timestamp is tracked for every started item, the tracked value is released on the item's finish.
+ */
+final class ItemTimestamps {
+
+	private static final String ROOT = "";
+
+	private final Map<String, AtomicLong> latest = new ConcurrentHashMap<>();
+
+	private AtomicLong latest(@Nullable String id) {
+		return latest.computeIfAbsent(id == null ? ROOT : id, k -> new AtomicLong());
+	}
+
+	/**
+	 * Issues an item start time
+	 *
+	 * @param parentId a unique ID of the item's parent, or <code>null</code> for root items
+	 * @param now      current time in milliseconds
+	 * @return a start time which is greater than any time issued for the parent's children before
+	 */
+	@Nonnull
+	public Date start(@Nullable String parentId, long now) {
+		return new Date(latest(parentId).accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current)));
+	}
+
+	/**
+	 * Registers a start time of a started item, so its children start and the item itself ends not earlier
+	 *
+	 * @param id        a unique ID of the item
+	 * @param startTime the item's start time
+	 */
+	public void started(@Nonnull String id, @Nonnull Date startTime) {
+		latest(id).accumulateAndGet(startTime.getTime(), Math::max);
+	}
+
+	/**
+	 * Issues an item end time
+	 *
+	 * @param id       a unique ID of the item
+	 * @param parentId a unique ID of the item's parent, or <code>null</code> for root items
+	 * @param now      current time in milliseconds
+	 * @return an end time which is not less than any time issued for the item, its children and its siblings before
+	 */
+	@Nonnull
+	public Date end(@Nonnull String id, @Nullable String parentId, long now) {
+		AtomicLong children = latest.get(id);
+		long floor = children == null ? now : Math.max(now, children.get());
+		return new Date(latest(parentId).accumulateAndGet(floor, Math::max));
+	}
+
+	/**
+	 * Releases tracked timestamps of a finished item
+	 *
+	 * @param id a unique ID of the item
+	 */
+	public void release(@Nonnull String id) {
+		latest.remove(id);
+	}
+
+	/**
+	 * @return number of tracked parents
+	 */
+	public int size() {
+		return latest.size();
+	}
+}
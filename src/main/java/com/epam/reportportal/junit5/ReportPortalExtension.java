@@ -16,50 +16,72 @@
 
 package com.epam.reportportal.junit5;
 
-import com.epam.reportportal.annotations.Description;
 import com.epam.reportportal.annotations.ParameterKey;
 import com.epam.reportportal.annotations.TestCaseId;
 import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.junit5.budget.BackpressurePolicy;
+import com.epam.reportportal.junit5.budget.BudgetReportPortalClient;
+import com.epam.reportportal.junit5.budget.InFlightBudget;
+import com.epam.reportportal.junit5.clock.MonotonicClock;
+import com.epam.reportportal.junit5.clock.ReportingClock;
+import com.epam.reportportal.junit5.jfr.AgentEvent;
+import com.epam.reportportal.junit5.jfr.AgentEvents;
+import com.epam.reportportal.junit5.metrics.AgentMetrics;
+import com.epam.reportportal.junit5.retention.RetentionReportPortalClient;
+import com.epam.reportportal.junit5.spool.JournalReportPortalClient;
+import com.epam.reportportal.junit5.status.StatusClassification;
+import com.epam.reportportal.junit5.status.StatusClassifier;
+import com.epam.reportportal.junit5.status.StatusClassifiers;
+import com.epam.reportportal.junit5.trace.FailureStormDetector;
+import com.epam.reportportal.junit5.trace.StackTrace;
+import com.epam.reportportal.junit5.trace.StackTraceFormatter;
+import com.epam.reportportal.junit5.utils.ExecutorMode;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.reportportal.service.item.TestCaseIdEntry;
 import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.reportportal.utils.AttributeParser;
-import com.epam.reportportal.utils.ParameterUtils;
 import com.epam.reportportal.utils.TestCaseIdUtils;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.reportportal.utils.markdown.MarkdownUtils;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.*;
-import org.opentest4j.TestAbortedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.epam.reportportal.junit5.ItemType.*;
 import static com.epam.reportportal.junit5.SystemAttributesFetcher.collectSystemAttributes;
-import static com.epam.reportportal.junit5.utils.ItemTreeUtils.createItemTreeKey;
 import static com.epam.reportportal.listeners.ItemStatus.*;
 import static com.epam.reportportal.service.tree.TestItemTree.createTestItemLeaf;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
-import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
 
 /*
  * ReportPortal Extension sends the results of test execution to ReportPortal in RealTime
@@ -70,31 +92,198 @@ public class ReportPortalExtension
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalExtension.class);
 
-	private static final Set<String> ASSUMPTION_CLASSES = new HashSet<>(Arrays.asList(TestAbortedException.class.getCanonicalName(),
-			"org.junit.AssumptionViolatedException"
-	));
+	public static final TestItemTree TEST_ITEM_TREE = new TestItemTree();
+	public static final String FAILURE_CLUSTER_ATTRIBUTE = "failure.cluster";
+	// leaves are kept till the end of the run unless the window is set, as ItemTreeUtils.retrieveLeaf() callers expect
+	private static final long DEFAULT_CALLBACK_WINDOW = -1;
+	private static final long DEFAULT_LOG_RETENTION_BUFFER = 1024 * 1024;
+	private static final CallbackItemTree CALLBACK_ITEM_TREE = new CallbackItemTree(TEST_ITEM_TREE,
+			ExtensionProperty.CALLBACK_WINDOW.getValue(DEFAULT_CALLBACK_WINDOW)
+	);
+	private static final AgentMetrics METRICS = AgentMetrics.create(ExtensionProperty.METRICS.getValue(false));
+	private static final InFlightBudget BUDGET = new InFlightBudget(ExtensionProperty.IN_FLIGHT_ITEMS.getValue(0),
+			ExtensionProperty.IN_FLIGHT_BYTES.getValue(0L),
+			BackpressurePolicy.of(ExtensionProperty.IN_FLIGHT_POLICY.getValue())
+	);
+	public static final ReportPortal REPORT_PORTAL = createReportPortal();
+	private static final ReportingClock CLOCK = new MonotonicClock();
+
+	private static final ClassValue<Optional<DisplayNameGenerator>> DISPLAY_NAME_GENERATORS = new ClassValue<Optional<DisplayNameGenerator>>() {
+		@Override
+		protected Optional<DisplayNameGenerator> computeValue(@Nonnull Class<?> generatorClass) {
+			try {
+				return of((DisplayNameGenerator) generatorClass.getConstructor().newInstance());
+			} catch (Exception e) {
+				LOGGER.error("Unable instantiate a display name generator. Name generation skipped.", e);
+				return Optional.empty();
+			}
+		}
+	};
+
+	private static final ClassValue<Map<Method, String>> CONFIGURATION_NAMES = new ClassValue<Map<Method, String>>() {
+		@Override
+		protected Map<Method, String> computeValue(@Nonnull Class<?> testClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final int DEFAULT_STACK_TRACE_MAX_FRAMES = 64;
+	private static final int DEFAULT_STACK_TRACE_MAX_CAUSES = 8;
+	private static final StackTraceFormatter STACK_TRACE_FORMATTER = createStackTraceFormatter();
+	private static final boolean STACK_TRACE_DEDUPLICATION = ExtensionProperty.STACK_TRACE_DEDUPLICATION.getValue(true);
+	// Fingerprints of stack traces already reported in a running launch, cleared on launch finish
+	private static final Set<String> REPORTED_STACK_TRACES = ConcurrentHashMap.newKeySet();
+	private static final int DEFAULT_FAILURE_STORM_THRESHOLD = 50;
+	private static final long DEFAULT_FAILURE_STORM_WINDOW = TimeUnit.MINUTES.toMillis(1);
+	private static final FailureStormDetector FAILURE_STORM_DETECTOR = new FailureStormDetector(
+			ExtensionProperty.FAILURE_STORM_THRESHOLD.getValue(DEFAULT_FAILURE_STORM_THRESHOLD),
+			ExtensionProperty.FAILURE_STORM_WINDOW.getValue(DEFAULT_FAILURE_STORM_WINDOW)
+	);
+	// Failure storm clusters of reported exceptions, to mark items which are finished with them; Throwable uses identity equality
+	private static final Map<Throwable, String> FAILURE_CLUSTERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	// Launches are started outside of map locks, so parallel workers don't wait for each other's requests
+	private static final ReservingMap<Launch> launchMap = new ReservingMap<>();
+	// Launch state is kept in the root context store and item state in stores of item contexts: all registrations of the extension
+	// share it, and JUnit drops it together with the contexts
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ReportPortalExtension.class);
+	private static final String LAUNCH_KEY = "launch";
+	private static final String TIMESTAMPS_KEY = "timestamps";
+	private static final String ITEM_ID_KEY = "itemId";
+	private static final String ITEM_TYPE_KEY = "itemType";
+	private static final String ITEM_LEAF_KEY = "itemLeaf";
+	private static final String TEMPLATE_ID_KEY = "templateId";
+	private static final String TEMPLATE_CHILDREN_KEY = "templateChildren";
+	private static final String CODE_REF_KEY = "codeRef";
+	private static final String CLASS_INIT_FAILED_KEY = "classInitFailed";
 
-	private static final Predicate<Throwable> IS_ASSUMPTION = e -> ofNullable(e).map(Object::getClass).flatMap(c -> {
-		Class<?> clazz = c;
-		do {
-			if (ASSUMPTION_CLASSES.contains(clazz.getCanonicalName())) {
-				return of(clazz);
+	/**
+	 * Creates ReportPortal instance which sends requests to the server, or writes them to a spool journal if
+	 * {@link ExtensionProperty#SPOOL_DIRECTORY} is set. Reporting I/O runs on threads of {@link ExtensionProperty#EXECUTOR_MODE} kind.
+	 * Log batches sent to the server are kept within {@link ExtensionProperty#IN_FLIGHT_BYTES} if it's set. Item logs are buffered till
+	 * the item finish if {@link ExtensionProperty#LOG_RETENTION} is enabled.
+	 *
+	 * @return ReportPortal instance
+	 */
+	private static ReportPortal createReportPortal() {
+		ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+		ExecutorService executor = ExecutorMode.of(ExtensionProperty.EXECUTOR_MODE.getValue()).newExecutor(parameters.getIoPoolSize());
+		METRICS.setReportingExecutor(executor);
+		boolean logRetention = ExtensionProperty.LOG_RETENTION.getValue(false);
+		String spoolDirectory = ExtensionProperty.SPOOL_DIRECTORY.getValue();
+		ReportPortalClient client;
+		if (spoolDirectory == null) {
+			ReportPortal.Builder builder = ReportPortal.builder().withParameters(parameters).withExecutorService(executor);
+			if (!BUDGET.isByteLimited() && !logRetention) {
+				return builder.build();
+			}
+			client = builder.buildClient(ReportPortalClient.class, parameters, executor);
+			if (BUDGET.isByteLimited()) {
+				Path spill = ofNullable(ExtensionProperty.SPILL_DIRECTORY.getValue()).map(Paths::get)
+						.orElseGet(() -> Paths.get(System.getProperty("java.io.tmpdir"), "rp-junit5-spill"));
+				client = new BudgetReportPortalClient(client, BUDGET, spill);
+			}
+		} else {
+			try {
+				client = JournalReportPortalClient.create(Paths.get(spoolDirectory));
+			} catch (IOException e) {
+				throw new IllegalStateException("Unable to create spool journal in directory: " + spoolDirectory, e);
 			}
-		} while ((clazz = clazz.getSuperclass()) != null);
-		return Optional.empty();
-	}).isPresent();
+		}
+		if (logRetention) {
+			client = new RetentionReportPortalClient(client,
+					ExtensionProperty.LOG_RETENTION_LEVEL.getValue(),
+					ExtensionProperty.LOG_RETENTION_BUFFER.getValue(DEFAULT_LOG_RETENTION_BUFFER)
+			);
+		}
+		return ReportPortal.create(client, parameters, executor);
+	}
 
-	public static final TestItemTree TEST_ITEM_TREE = new TestItemTree();
-	public static final ReportPortal REPORT_PORTAL = ReportPortal.builder().build();
+	private static StackTraceFormatter createStackTraceFormatter() {
+		List<String> filteredPackages = new ArrayList<>();
+		if (ExtensionProperty.STACK_TRACE_FILTER.getValue(true)) {
+			filteredPackages.addAll(StackTraceFormatter.DEFAULT_FILTERED_PACKAGES);
+			ofNullable(ExtensionProperty.STACK_TRACE_FILTER_PACKAGES.getValue()).ifPresent(packages -> Arrays.stream(packages.split(","))
+					.map(String::trim)
+					.filter(StringUtils::isNotEmpty)
+					.forEach(filteredPackages::add));
+		}
+		return new StackTraceFormatter(filteredPackages,
+				ExtensionProperty.STACK_TRACE_MAX_FRAMES.getValue(DEFAULT_STACK_TRACE_MAX_FRAMES),
+				ExtensionProperty.STACK_TRACE_MAX_CAUSES.getValue(DEFAULT_STACK_TRACE_MAX_CAUSES)
+		);
+	}
+
+	@Nonnull
+	private static ExtensionContext.Store getLaunchStore(@Nonnull ExtensionContext context) {
+		return context.getRoot().getStore(NAMESPACE);
+	}
+
+	/**
+	 * Item state is kept in a namespace of the item, so lookups don't fall through to the same keys of its parents
+	 */
+	@Nonnull
+	private static ExtensionContext.Store getItemStore(@Nonnull ExtensionContext context) {
+		return context.getStore(NAMESPACE.append(context.getUniqueId()));
+	}
+
+	/**
+	 * Same as {@link ExtensionContext.Store#getOrComputeIfAbsent(Object, Function)}, but a failed computation is not kept in the
+	 * store, so the value is computed again on the next call
+	 */
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	private static <V> V getOrCompute(@Nonnull ExtensionContext.Store store, @Nonnull String key,
+			@Nonnull Function<String, V> function) {
+		AtomicBoolean computed = new AtomicBoolean();
+		try {
+			return (V) store.getOrComputeIfAbsent(key, k -> {
+				computed.set(true);
+				return function.apply(k);
+			});
+		} catch (RuntimeException e) {
+			if (computed.get()) {
+				try {
+					store.remove(key);
+				} catch (RuntimeException ignore) {
+					// the removed value is the same failure
+				}
+			}
+			throw e;
+		}
+	}
+
+	@Nonnull
+	private static ItemTimestamps getTimestamps(@Nonnull ExtensionContext context) {
+		return getOrCompute(getLaunchStore(context), TIMESTAMPS_KEY, k -> new ItemTimestamps());
+	}
 
-	private static final Map<String, Launch> launchMap = new ConcurrentHashMap<>();
-	private final Map<ExtensionContext, Maybe<String>> idMapping = new ConcurrentHashMap<>();
-	private final Map<ExtensionContext, Maybe<String>> testTemplates = new ConcurrentHashMap<>();
-	private final Set<ExtensionContext> failedClassInits = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Maybe<String> getStartedItemId(@Nonnull ExtensionContext context) {
+		return (Maybe<String>) getItemStore(context).get(ITEM_ID_KEY);
+	}
 
 	@Nonnull
 	protected Optional<Maybe<String>> getItemId(@Nonnull ExtensionContext context) {
-		return ofNullable(idMapping.get(context));
+		return ofNullable(getStartedItemId(context));
+	}
+
+	@Nullable
+	private static String getParentId(@Nonnull ExtensionContext context) {
+		return context.getParent().map(ExtensionContext::getUniqueId).orElse(null);
+	}
+
+	/**
+	 * Puts a callback reporting leaf of the item under its parent's leaf, leaves are kept in item stores to find parents and to set
+	 * finish responses
+	 */
+	private static void addLeaf(@Nonnull ExtensionContext context, @Nonnull String name, @Nonnull TestItemTree.TestItemLeaf leaf) {
+		TestItemTree.TestItemLeaf parent = context.getParent()
+				.map(p -> getItemStore(p).get(ITEM_LEAF_KEY, TestItemTree.TestItemLeaf.class))
+				.orElse(null);
+		CALLBACK_ITEM_TREE.addLeaf(context.getUniqueId(), parent, name, leaf);
+		getItemStore(context).put(ITEM_LEAF_KEY, leaf);
 	}
 
 	/**
@@ -110,9 +299,51 @@ public class ReportPortalExtension
 	}
 
 	private static void finish(Launch launch) {
+		reportFailureStorms();
 		FinishExecutionRQ rq = new FinishExecutionRQ();
-		rq.setEndTime(Calendar.getInstance().getTime());
+		rq.setEndTime(new Date(CLOCK.currentTimeMillis()));
 		launch.finish(rq);
+		REPORTED_STACK_TRACES.clear();
+		FAILURE_STORM_DETECTOR.reset();
+		if (launchMap.keySet().isEmpty()) {
+			// Launch finish is blocking, so nothing is reported with the client anymore: spool journal and spill queue can be closed
+			closeClient(launch.getClient());
+		}
+	}
+
+	private static void closeClient(@Nullable ReportPortalClient client) {
+		if (client instanceof Closeable) {
+			try {
+				((Closeable) client).close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close ReportPortal client", e);
+			}
+		}
+	}
+
+	private static void reportFailureStorms() {
+		Map<String, FailureStormDetector.Cluster> storms = FAILURE_STORM_DETECTOR.getStorms();
+		if (storms.isEmpty()) {
+			return;
+		}
+		AgentEvent event = AgentEvents.beginLog();
+		StringBuilder message = new StringBuilder("Failure storms detected, tests failed in a storm are marked with '").append(
+				FAILURE_CLUSTER_ATTRIBUTE).append("' attribute:");
+		storms.forEach((cluster, failures) -> message.append("\n\n")
+				.append(cluster)
+				.append(": ")
+				.append(failures.getCount())
+				.append(" failures\n")
+				.append(failures.getDescription()));
+		ReportPortal.emitLaunchLog(launchUuid -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setLaunchUuid(launchUuid);
+			rq.setLevel("ERROR");
+			rq.setMessage(message.toString());
+			rq.setLogTime(new Date(CLOCK.currentTimeMillis()));
+			return rq;
+		});
+		AgentEvents.commitLog(event, "ERROR", message.length(), true);
 	}
 
 	private static Thread getShutdownHook(final String launchId) {
@@ -133,7 +364,7 @@ public class ReportPortalExtension
 		Set<ItemAttributesRQ> attributes = new HashSet<>(parameters.getAttributes());
 		attributes.addAll(collectSystemAttributes(parameters.getSkippedAnIssue()));
 		rq.setAttributes(attributes);
-		rq.setStartTime(Calendar.getInstance().getTime());
+		rq.setStartTime(new Date(getClock().currentTimeMillis()));
 		rq.setRerun(parameters.isRerun());
 		rq.setRerunOf(StringUtils.isEmpty(parameters.getRerunOf()) ? null : parameters.getRerunOf());
 		return rq;
@@ -146,6 +377,39 @@ public class ReportPortalExtension
 		return REPORT_PORTAL;
 	}
 
+	/**
+	 * Returns a clock which is used for item, log and launch timestamps. Item timestamps are additionally adjusted to keep items order,
+	 * see {@link #buildStartStepRq} and {@link #buildFinishTestItemRq}.
+	 *
+	 * @return a clock instance
+	 */
+	@Nonnull
+	protected ReportingClock getClock() {
+		return CLOCK;
+	}
+
+	/**
+	 * Returns agent metrics, which are published as {@value AgentMetrics#OBJECT_NAME} JMX MBean if {@link ExtensionProperty#METRICS} is
+	 * enabled
+	 *
+	 * @return metrics instance
+	 */
+	@Nonnull
+	protected AgentMetrics getMetrics() {
+		return METRICS;
+	}
+
+	/**
+	 * Returns a budget of in-flight reporting requests, item requests wait for it if {@link ExtensionProperty#IN_FLIGHT_ITEMS} or
+	 * {@link ExtensionProperty#IN_FLIGHT_BYTES} is set
+	 *
+	 * @return budget instance
+	 */
+	@Nonnull
+	protected InFlightBudget getBudget() {
+		return BUDGET;
+	}
+
 	/**
 	 * Returns a current launch unique ID
 	 *
@@ -157,13 +421,14 @@ public class ReportPortalExtension
 	}
 
 	/**
-	 * Returns a current launch instance, starts new if no such instance
+	 * Returns a current launch instance, starts new if no such instance. The instance is cached in the root context store, so the launch
+	 * ID is resolved once per JUnit run.
 	 *
 	 * @param context JUnit's launch context
 	 * @return represents current launch
 	 */
 	protected Launch getLaunch(ExtensionContext context) {
-		return launchMap.computeIfAbsent(getLaunchId(context), id -> {
+		return getOrCompute(getLaunchStore(context), LAUNCH_KEY, k -> launchMap.computeIfAbsent(getLaunchId(context), id -> {
 			ReportPortal rp = getReporter();
 			ListenerParameters params = rp.getParameters();
 			StartLaunchRQ rq = buildStartLaunchRq(params);
@@ -175,13 +440,20 @@ public class ReportPortalExtension
 				TEST_ITEM_TREE.setLaunchId(launchIdResponse);
 			}
 			return launch;
-		});
+		}));
 	}
 
 	@Override
 	public void beforeAll(ExtensionContext context) {
-		getLaunch(context); // Trigger launch start
-		startTestItem(context, SUITE);
+		long start = getMetrics().start();
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			getLaunch(context); // Trigger launch start
+			startTestItem(context, SUITE);
+		} finally {
+			getMetrics().record(AgentMetrics.Callback.BEFORE_ALL, start);
+			AgentEvents.commitCallback(event, "beforeAll", context.getUniqueId());
+		}
 	}
 
 	/**
@@ -190,31 +462,70 @@ public class ReportPortalExtension
 	 * @param parentContext JUnit's test context
 	 */
 	protected void finishTemplates(final ExtensionContext parentContext) {
-		final Collection<ExtensionContext> parents = new HashSet<>();
-		parents.add(parentContext);
 		List<ExtensionContext> templates = new ArrayList<>();
-		Collection<ExtensionContext> children;
-		while (!(children = testTemplates.keySet()
-				.stream()
-				.filter((c) -> c.getParent().map(parents::contains).orElse(false))
-				.collect(Collectors.toSet())).isEmpty()) {
+		Collection<ExtensionContext> children = getTemplateChildren(parentContext);
+		while (!children.isEmpty()) {
 			templates.addAll(children);
-			parents.clear();
-			parents.addAll(children);
+			Collection<ExtensionContext> grandChildren = new ArrayList<>();
+			children.forEach(c -> grandChildren.addAll(getTemplateChildren(c)));
+			children = grandChildren;
 		}
 		Collections.reverse(templates);
 		templates.forEach(this::finishTemplate);
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Map<String, ExtensionContext> getTemplateChildrenMap(@Nonnull final ExtensionContext parentContext) {
+		return (Map<String, ExtensionContext>) getItemStore(parentContext).get(TEMPLATE_CHILDREN_KEY);
+	}
+
+	@Nonnull
+	private Collection<ExtensionContext> getTemplateChildren(@Nonnull final ExtensionContext parentContext) {
+		Map<String, ExtensionContext> children = getTemplateChildrenMap(parentContext);
+		return children == null ? Collections.emptyList() : new ArrayList<>(children.values());
+	}
+
+	private void addTemplate(@Nonnull final ExtensionContext context, @Nonnull final Maybe<String> id) {
+		getItemStore(context).put(TEMPLATE_ID_KEY, id);
+		context.getParent()
+				.ifPresent(p -> getOrCompute(getItemStore(p),
+						TEMPLATE_CHILDREN_KEY,
+						k -> new ConcurrentHashMap<String, ExtensionContext>()
+				).put(context.getUniqueId(), context));
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Maybe<String> removeTemplate(@Nonnull final ExtensionContext context) {
+		context.getParent()
+				.map(ReportPortalExtension::getTemplateChildrenMap)
+				.ifPresent(children -> children.remove(context.getUniqueId()));
+		return (Maybe<String>) getItemStore(context).remove(TEMPLATE_ID_KEY);
+	}
+
 	@Override
 	public void afterAll(ExtensionContext context) {
-		finishTemplates(context);
-		finishTestItem(context);
+		long start = getMetrics().start();
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			finishTemplates(context);
+			finishTestItem(context);
+			getItemStore(context).remove(CLASS_INIT_FAILED_KEY);
+		} finally {
+			getMetrics().record(AgentMetrics.Callback.AFTER_ALL, start);
+			AgentEvents.commitCallback(event, "afterAll", context.getUniqueId());
+		}
 	}
 
 	@Override
 	public void beforeEach(ExtensionContext context) {
-		context.getParent().ifPresent(this::startTemplate);
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			context.getParent().ifPresent(this::startTemplate);
+		} finally {
+			AgentEvents.commitCallback(event, "beforeEach", context.getUniqueId());
+		}
 	}
 
 	@Override
@@ -236,7 +547,7 @@ public class ReportPortalExtension
 		try {
 			return invocation.proceed();
 		} catch (Throwable cause) {
-			failedClassInits.add(parentContext);
+			getItemStore(parentContext).put(CLASS_INIT_FAILED_KEY, Boolean.TRUE);
 			throw cause;
 		}
 	}
@@ -272,14 +583,26 @@ public class ReportPortalExtension
 	@Override
 	public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext extensionContext) throws Throwable {
-		startTestItem(extensionContext, invocationContext.getArguments(), STEP);
+		long start = getMetrics().start();
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			startTestItem(extensionContext, invocationContext.getArguments(), STEP);
+		} finally {
+			getMetrics().record(AgentMetrics.Callback.INTERCEPT_TEST_METHOD, start);
+			AgentEvents.commitCallback(event, "interceptTestMethod", extensionContext.getUniqueId());
+		}
 		invocation.proceed();
 	}
 
 	@Override
 	public <T> T interceptTestFactoryMethod(Invocation<T> invocation,
 			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-		startTestItem(extensionContext, invocationContext.getArguments(), SUITE);
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			startTestItem(extensionContext, invocationContext.getArguments(), SUITE);
+		} finally {
+			AgentEvents.commitCallback(event, "interceptTestFactoryMethod", extensionContext.getUniqueId());
+		}
 		return invocation.proceed();
 	}
 
@@ -295,19 +618,52 @@ public class ReportPortalExtension
 			return PASSED;
 		}
 		sendStackTraceToRP(throwable);
-		return IS_ASSUMPTION.test(throwable) ? SKIPPED : FAILED;
+		return StatusClassifiers.classify(throwable).getStatus();
+	}
+
+	/**
+	 * Returns an issue of a test failed with the exception, if {@link StatusClassifier}s define it for the exception type and the
+	 * classified status is the same as the test status
+	 *
+	 * @param status    a test execution status
+	 * @param throwable test exception
+	 * @return an {@link Issue} or <code>null</code>
+	 */
+	@Nullable
+	private static Issue getExecutionIssue(@Nonnull final ItemStatus status, @Nullable final Throwable throwable) {
+		if (throwable == null) {
+			return null;
+		}
+		StatusClassification classification = StatusClassifiers.classify(throwable);
+		return classification.getStatus() == status ? classification.getIssue() : null;
+	}
+
+	private void finishTest(@Nonnull final ExtensionContext context, @Nonnull final ItemStatus status,
+			@Nullable final Throwable throwable) {
+		Issue issue = getExecutionIssue(status, throwable);
+		String cluster = ofNullable(throwable).map(FAILURE_CLUSTERS::remove).orElse(null);
+		if (issue == null && cluster == null) {
+			finishTest(context, status);
+			return;
+		}
+		FinishTestItemRQ rq = buildFinishTestRq(context, status);
+		if (rq.getIssue() == null) {
+			rq.setIssue(issue);
+		}
+		addFailureCluster(rq, cluster);
+		finishTestItem(context, rq);
 	}
 
 	@Override
 	public void interceptDynamicTest(Invocation<Void> invocation, DynamicTestInvocationContext invocationContext,
 									 ExtensionContext extensionContext) throws Throwable {
 		Optional<ExtensionContext> parent = extensionContext.getParent();
-		if (parent.map(p -> !idMapping.containsKey(p)).orElse(false)) {
+		if (parent.map(p -> getStartedItemId(p) == null).orElse(false)) {
 			List<ExtensionContext> parents = new ArrayList<>();
 			parents.add(parent.get());
 			while ((parent = parents.get(parents.size() - 1).getParent()).isPresent()) {
 				ExtensionContext p = parent.get();
-				if (idMapping.containsKey(p)) {
+				if (getStartedItemId(p) != null) {
 					break;
 				}
 				parents.add(p);
@@ -320,7 +676,7 @@ public class ReportPortalExtension
 			invocation.proceed();
 			finishTest(extensionContext, PASSED);
 		} catch (Throwable throwable) {
-			finishTest(extensionContext, getExecutionStatus(throwable));
+			finishTest(extensionContext, getExecutionStatus(throwable), throwable);
 			throw throwable;
 		}
 	}
@@ -328,7 +684,12 @@ public class ReportPortalExtension
 	@Override
 	public void interceptTestTemplateMethod(Invocation<Void> invocation,
 			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-		startTestItem(extensionContext, invocationContext.getArguments(), STEP);
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			startTestItem(extensionContext, invocationContext.getArguments(), STEP);
+		} finally {
+			AgentEvents.commitCallback(event, "interceptTestTemplateMethod", extensionContext.getUniqueId());
+		}
 		invocation.proceed();
 	}
 
@@ -345,8 +706,15 @@ public class ReportPortalExtension
 
 	@Override
 	public void afterTestExecution(ExtensionContext context) {
-		finishTemplates(context);
-		finishTest(context, getExecutionStatus(context));
+		long start = getMetrics().start();
+		AgentEvent event = AgentEvents.beginCallback();
+		try {
+			finishTemplates(context);
+			finishTest(context, getExecutionStatus(context), context.getExecutionException().orElse(null));
+		} finally {
+			getMetrics().record(AgentMetrics.Callback.AFTER_TEST_EXECUTION, start);
+			AgentEvents.commitCallback(event, "afterTestExecution", context.getUniqueId());
+		}
 	}
 
 	@Override
@@ -365,7 +733,7 @@ public class ReportPortalExtension
 	@Override
 	public void testFailed(ExtensionContext context, Throwable cause) {
 		context.getParent().ifPresent(parent -> {
-			if(failedClassInits.contains(parent)) {
+			if (getItemStore(parent).get(CLASS_INIT_FAILED_KEY) != null) {
 				startTestItem(context, STEP);
 				sendStackTraceToRP(cause);
 				finishTest(context, FAILED);
@@ -385,7 +753,7 @@ public class ReportPortalExtension
 	 */
 	protected void finishBeforeAll(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext context, Maybe<String> id) throws Throwable {
-		Date startTime = Calendar.getInstance().getTime();
+		Date startTime = new Date(getClock().currentTimeMillis());
 		try {
 			finishBeforeAfter(invocation, context, id);
 		} catch (Throwable throwable) {
@@ -406,7 +774,7 @@ public class ReportPortalExtension
 	 */
 	protected void finishBeforeEach(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext context, Maybe<String> id) throws Throwable {
-		Date startTime = Calendar.getInstance().getTime();
+		Date startTime = new Date(getClock().currentTimeMillis());
 		try {
 			finishBeforeAfter(invocation, context, id);
 		} catch (Throwable throwable) {
@@ -420,16 +788,35 @@ public class ReportPortalExtension
 		try {
 			invocation.proceed();
 		} catch (Throwable throwable) {
-			finishBeforeAfter(context, id, getExecutionStatus(throwable));
+			finishBeforeAfter(context, id, getExecutionStatus(throwable), throwable);
 			throw throwable;
 		}
-		finishBeforeAfter(context, id, PASSED);
+		finishBeforeAfter(context, id, PASSED, null);
 	}
 
-	private void finishBeforeAfter(ExtensionContext context, Maybe<String> id, ItemStatus status) {
+	private void finishBeforeAfter(ExtensionContext context, Maybe<String> id, ItemStatus status, @Nullable Throwable throwable) {
+		AgentEvent event = AgentEvents.beginItemFinish();
 		Launch launch = getLaunch(context);
+		FinishTestItemRQ rq = buildFinishTestItemRq(context, status);
+		if (rq.getIssue() == null) {
+			rq.setIssue(getExecutionIssue(status, throwable));
+		}
+		addFailureCluster(rq, ofNullable(throwable).map(FAILURE_CLUSTERS::remove).orElse(null));
 		//noinspection ReactiveStreamsUnusedPublisher
-		launch.finishTestItem(id, buildFinishTestItemRq(context, status));
+		getBudget().sendItem(() -> launch.finishTestItem(id, rq));
+		getMetrics().itemFinished();
+		if (event != null) {
+			AgentEvents.commitItemFinish(event, context.getUniqueId(), null, calculateCodeRef(context), rq.getStatus());
+		}
+	}
+
+	private static void addFailureCluster(@Nonnull FinishTestItemRQ rq, @Nullable String cluster) {
+		if (cluster == null) {
+			return;
+		}
+		Set<ItemAttributesRQ> attributes = ofNullable(rq.getAttributes()).<Set<ItemAttributesRQ>>map(HashSet::new).orElseGet(HashSet::new);
+		attributes.add(new ItemAttributesRQ(FAILURE_CLUSTER_ATTRIBUTE, cluster));
+		rq.setAttributes(attributes);
 	}
 
 	/**
@@ -438,7 +825,7 @@ public class ReportPortalExtension
 	 * @param parentContext JUnit's test context of a parent entity
 	 */
 	protected void startTemplate(ExtensionContext parentContext) {
-		if (!idMapping.containsKey(parentContext)) {
+		if (getStartedItemId(parentContext) == null) {
 			startTestItem(parentContext, TEMPLATE);
 		}
 	}
@@ -473,30 +860,34 @@ public class ReportPortalExtension
 	 */
 	protected void startTestItem(@Nonnull final ExtensionContext context, @Nonnull final List<Object> arguments,
 			@Nonnull final ItemType itemType, @Nullable final String description, @Nullable final Date startTime) {
-		idMapping.computeIfAbsent(context, c -> {
-			StartTestItemRQ rq = buildStartStepRq(c, arguments, itemType, description, startTime);
-			Launch launch = getLaunch(c);
-			Maybe<String> itemId = c.getParent()
-					.flatMap(parent -> Optional.ofNullable(idMapping.get(parent)))
+		getOrCompute(getItemStore(context), ITEM_ID_KEY, k -> {
+			AgentEvent event = AgentEvents.beginItemStart();
+			String id = context.getUniqueId();
+			StartTestItemRQ rq = buildStartStepRq(context, arguments, itemType, description, startTime);
+			ofNullable(rq.getStartTime()).ifPresent(t -> getTimestamps(context).started(id, t));
+			Launch launch = getLaunch(context);
+			Maybe<String> itemId = context.getParent().map(ReportPortalExtension::getStartedItemId)
 					.map(parentTest -> {
-						Maybe<String> item = launch.startTestItem(parentTest, rq);
+						Maybe<String> item = getBudget().sendItem(() -> launch.startTestItem(parentTest, rq));
 						if (getReporter().getParameters().isCallbackReportingEnabled()) {
-							TEST_ITEM_TREE.getTestItems()
-									.put(createItemTreeKey(rq.getName()), createTestItemLeaf(parentTest, item));
+							addLeaf(context, rq.getName(), createTestItemLeaf(parentTest, item));
 						}
 						return item;
 					})
 					.orElseGet(() -> {
-						Maybe<String> item = launch.startTestItem(rq);
+						Maybe<String> item = getBudget().sendItem(() -> launch.startTestItem(rq));
 						if (getReporter().getParameters().isCallbackReportingEnabled()) {
-							TEST_ITEM_TREE.getTestItems()
-									.put(createItemTreeKey(rq.getName()), createTestItemLeaf(item));
+							addLeaf(context, rq.getName(), createTestItemLeaf(item));
 						}
 						return item;
 					});
+			getMetrics().itemStarted();
+			getItemStore(context).put(ITEM_TYPE_KEY, itemType);
 			if (TEMPLATE == itemType) {
-				testTemplates.put(c, itemId);
+				addTemplate(context, itemId);
+				getMetrics().templateStarted();
 			}
+			AgentEvents.commitItemStart(event, id, itemType.name(), rq.getCodeRef());
 			return itemId;
 		});
 	}
@@ -512,10 +903,14 @@ public class ReportPortalExtension
 	 */
 	protected Maybe<String> startBeforeAfter(Method method, ExtensionContext parentContext, ExtensionContext context,
 			ItemType itemType) {
+		AgentEvent event = AgentEvents.beginItemStart();
 		Launch launch = getLaunch(context);
 		StartTestItemRQ rq = buildStartConfigurationRq(method, parentContext, context, itemType);
-		return getItemId(parentContext).map(pid -> launch.startTestItem(pid, rq))
-				.orElseGet(() -> launch.startTestItem(rq));
+		getMetrics().itemStarted();
+		Maybe<String> id = getItemId(parentContext).map(pid -> getBudget().sendItem(() -> launch.startTestItem(pid, rq)))
+				.orElseGet(() -> getBudget().sendItem(() -> launch.startTestItem(rq)));
+		AgentEvents.commitItemStart(event, context.getUniqueId(), itemType.name(), rq.getCodeRef());
+		return id;
 	}
 
 	/**
@@ -524,11 +919,23 @@ public class ReportPortalExtension
 	 * @param context JUnit's test context
 	 */
 	protected void finishTemplate(@Nonnull final ExtensionContext context) {
+		Maybe<String> templateId = removeTemplate(context);
+		if (templateId == null) {
+			// already finished by another thread
+			return;
+		}
+		AgentEvent event = AgentEvents.beginItemFinish();
 		Launch launch = getLaunch(context);
-		Maybe<String> templateId = testTemplates.remove(context);
+		FinishTestItemRQ rq = buildFinishTestItemRq(context, null);
 		//noinspection ReactiveStreamsUnusedPublisher
-		launch.finishTestItem(templateId, buildFinishTestItemRq(context, null));
-		idMapping.remove(context);
+		getBudget().sendItem(() -> launch.finishTestItem(templateId, rq));
+		getMetrics().itemFinished();
+		if (event != null) {
+			AgentEvents.commitItemFinish(event, context.getUniqueId(), TEMPLATE.name(), calculateCodeRef(context), null);
+		}
+		getMetrics().templateFinished();
+		getItemStore(context).remove(ITEM_ID_KEY);
+		getTimestamps(context).release(context.getUniqueId());
 	}
 
 	/**
@@ -566,13 +973,27 @@ public class ReportPortalExtension
 	 * @param context JUnit's test context
 	 * @param rq      a test item finish request
 	 */
+	@SuppressWarnings("unchecked")
 	protected void finishTestItem(@Nonnull final ExtensionContext context, @Nonnull final FinishTestItemRQ rq) {
+		AgentEvent event = AgentEvents.beginItemFinish();
 		Launch launch = getLaunch(context);
-		Maybe<String> id = idMapping.remove(context);
-		Maybe<OperationCompletionRS> finishResponse = launch.finishTestItem(id, rq);
+		Maybe<String> id = (Maybe<String>) getItemStore(context).remove(ITEM_ID_KEY);
+		getTimestamps(context).release(context.getUniqueId());
+		Maybe<OperationCompletionRS> finishResponse = getBudget().sendItem(() -> launch.finishTestItem(id, rq));
+		getMetrics().itemFinished();
 		if (getReporter().getParameters().isCallbackReportingEnabled()) {
-			ofNullable(TEST_ITEM_TREE.getTestItems()
-					.get(createItemTreeKey(context))).ifPresent(itemLeaf -> itemLeaf.setFinishResponse(finishResponse));
+			CALLBACK_ITEM_TREE.finishLeaf(context.getUniqueId(),
+					getItemStore(context).get(ITEM_LEAF_KEY, TestItemTree.TestItemLeaf.class),
+					finishResponse
+			);
+		}
+		if (event != null) {
+			AgentEvents.commitItemFinish(event,
+					context.getUniqueId(),
+					ofNullable(getItemStore(context).get(ITEM_TYPE_KEY, ItemType.class)).map(ItemType::name).orElse(null),
+					calculateCodeRef(context),
+					rq.getStatus()
+			);
 		}
 	}
 
@@ -587,7 +1008,7 @@ public class ReportPortalExtension
 	 */
 	protected TestCaseIdEntry getTestCaseId(@Nonnull final Method method, @Nonnull final String codeRef,
 			@Nonnull final List<Object> arguments, @Nullable Object instance) {
-		TestCaseId caseId = method.getAnnotation(TestCaseId.class);
+		TestCaseId caseId = ElementMetadata.of(method).getTestCaseId();
 		TestCaseIdEntry id = TestCaseIdUtils.getTestCaseId(caseId, method, codeRef, arguments, instance);
 		if (id == null) {
 			return null;
@@ -595,24 +1016,30 @@ public class ReportPortalExtension
 		return id.getId().endsWith("[]") ? new TestCaseIdEntry(id.getId().substring(0, id.getId().length() - 2)) : id;
 	}
 
-	private static String getCodeRef(@Nonnull final Method method) {
-		return method.getDeclaringClass().getCanonicalName() + "." + method.getName();
-	}
-
 	private static String appendSuffixIfNotEmpty(final String str, @Nonnull final String suffix) {
 		return str + (suffix.isEmpty() ? "" : "$" + suffix);
 	}
 
 	@Nonnull
-	private String getCodeRef(@Nonnull final ExtensionContext context, @Nonnull final String currentCodeRef) {
-		return context.getTestMethod()
-				.map(m -> appendSuffixIfNotEmpty(getCodeRef(m), currentCodeRef))
-				.orElseGet(() -> context.getTestClass()
-						.map(c -> appendSuffixIfNotEmpty(c.getCanonicalName(), currentCodeRef))
-						.orElseGet(() -> {
-							String newCodeRef = appendSuffixIfNotEmpty(context.getDisplayName(), currentCodeRef);
-							return context.getParent().map(c -> getCodeRef(c, newCodeRef)).orElse(newCodeRef);
-						}));
+	private String calculateCodeRef(@Nonnull final ExtensionContext context) {
+		Optional<Method> method = context.getTestMethod();
+		if (method.isPresent()) {
+			return ElementMetadata.of(method.get()).getCodeRef();
+		}
+		Optional<Class<?>> testClass = context.getTestClass();
+		if (testClass.isPresent()) {
+			return ElementMetadata.of(testClass.get()).getCodeRef();
+		}
+		// Dynamic tests and containers: the parent's code reference plus the display name, memoized for the container children
+		ExtensionContext.Store store = getItemStore(context);
+		String codeRef = (String) store.get(CODE_REF_KEY);
+		if (codeRef == null) {
+			codeRef = context.getParent()
+					.map(p -> appendSuffixIfNotEmpty(calculateCodeRef(p), context.getDisplayName()))
+					.orElseGet(context::getDisplayName);
+			store.put(CODE_REF_KEY, codeRef);
+		}
+		return codeRef;
 	}
 
 	/**
@@ -624,7 +1051,7 @@ public class ReportPortalExtension
 	 */
 	@Nonnull
 	protected String getCodeRef(@Nonnull final ExtensionContext context) {
-		return getCodeRef(context, "");
+		return calculateCodeRef(context);
 	}
 
 	/**
@@ -645,6 +1072,12 @@ public class ReportPortalExtension
 	 * @return a set of attributes
 	 */
 	protected @Nonnull Set<ItemAttributesRQ> getAttributes(@Nonnull final AnnotatedElement annotatedElement) {
+		if (annotatedElement instanceof Method) {
+			return ElementMetadata.of((Method) annotatedElement).getAttributes();
+		}
+		if (annotatedElement instanceof Class) {
+			return ElementMetadata.of((Class<?>) annotatedElement).getAttributes();
+		}
 		return ofNullable(annotatedElement.getAnnotation(Attributes.class)).map(AttributeParser::retrieveAttributes)
 				.orElse(Collections.emptySet());
 	}
@@ -658,11 +1091,12 @@ public class ReportPortalExtension
 	 */
 	protected @Nonnull List<ParameterResource> getParameters(@Nonnull final Method method,
 			final List<Object> arguments) {
-		return ParameterUtils.getParameters(method, arguments);
+		return ElementMetadata.of(method).getParameters(arguments);
 	}
 
 	/**
-	 * Extension point to customize test step creation event/request
+	 * Extension point to customize test step creation event/request. If start time is not specified it's issued by
+	 * {@link #getClock()} and adjusted to be greater than start times of all items started before with the same parent.
 	 *
 	 * @param context     JUnit's test context
 	 * @param arguments   a test arguments list
@@ -675,7 +1109,9 @@ public class ReportPortalExtension
 			@Nonnull final List<Object> arguments, @Nonnull final ItemType itemType, @Nullable final String description,
 			@Nullable final Date startTime) {
 		StartTestItemRQ rq = new StartTestItemRQ();
-		rq.setStartTime(ofNullable(startTime).orElseGet(Calendar.getInstance()::getTime));
+		rq.setStartTime(ofNullable(startTime).orElseGet(() -> getTimestamps(context).start(getParentId(context),
+				getClock().currentTimeMillis()
+		)));
 		rq.setName(createStepName(context));
 		rq.setDescription(ofNullable(description).orElseGet(() -> createStepDescription(context, itemType)));
 		rq.setType(itemType == TEMPLATE ? SUITE.name() : itemType.name());
@@ -713,7 +1149,7 @@ public class ReportPortalExtension
 	protected StartTestItemRQ buildStartConfigurationRq(@Nonnull Method method, @Nonnull ExtensionContext parentContext,
 			@Nonnull ExtensionContext context, @Nonnull ItemType itemType) {
 		StartTestItemRQ rq = new StartTestItemRQ();
-		rq.setStartTime(Calendar.getInstance().getTime());
+		rq.setStartTime(getTimestamps(parentContext).start(parentContext.getUniqueId(), getClock().currentTimeMillis()));
 		Optional<Class<?>> testClass = context.getTestClass();
 		if (testClass.isPresent()) {
 			rq.setName(createConfigurationName(testClass.get(), method));
@@ -727,9 +1163,9 @@ public class ReportPortalExtension
 				.collect(Collectors.toSet())));
 		rq.setType(itemType.name());
 		rq.setRetry(false);
-		String codeRef = method.getDeclaringClass().getCanonicalName() + "." + method.getName();
+		String codeRef = ElementMetadata.of(method).getCodeRef();
 		rq.setCodeRef(codeRef);
-		TestCaseIdEntry caseId = ofNullable(method.getAnnotation(TestCaseId.class)).map(TestCaseId::value)
+		TestCaseIdEntry caseId = ofNullable(ElementMetadata.of(method).getTestCaseId()).map(TestCaseId::value)
 				.map(TestCaseIdEntry::new)
 				.orElseGet(() -> TestCaseIdUtils.getTestCaseId(codeRef, Collections.emptyList()));
 		rq.setTestCaseId(ofNullable(caseId).map(TestCaseIdEntry::getId).orElse(null));
@@ -758,12 +1194,13 @@ public class ReportPortalExtension
 	protected FinishTestItemRQ buildFinishTestRq(@Nonnull ExtensionContext context, @Nullable ItemStatus status) {
 		FinishTestItemRQ rq = new FinishTestItemRQ();
 		ofNullable(status).ifPresent(s -> rq.setStatus(s.name()));
-		rq.setEndTime(Calendar.getInstance().getTime());
+		rq.setEndTime(getTimestamps(context).end(context.getUniqueId(), getParentId(context), getClock().currentTimeMillis()));
 		return rq;
 	}
 
 	/**
-	 * Extension point to customize a test item result on it's finish
+	 * Extension point to customize a test item result on it's finish. The end time is issued by {@link #getClock()} and adjusted to be
+	 * not less than times of the item's children.
 	 *
 	 * @param context JUnit's test context
 	 * @param status  a test item execution result
@@ -774,7 +1211,7 @@ public class ReportPortalExtension
 	protected FinishTestItemRQ buildFinishTestItemRq(@Nonnull ExtensionContext context, @Nullable ItemStatus status) {
 		FinishTestItemRQ rq = new FinishTestItemRQ();
 		ofNullable(status).ifPresent(s -> rq.setStatus(s.name()));
-		rq.setEndTime(Calendar.getInstance().getTime());
+		rq.setEndTime(getTimestamps(context).end(context.getUniqueId(), getParentId(context), getClock().currentTimeMillis()));
 		return rq;
 	}
 
@@ -798,6 +1235,11 @@ public class ReportPortalExtension
 	 */
 	@Nonnull
 	protected String createConfigurationName(@Nonnull Class<?> testClass, @Nonnull Method method) {
+		return CONFIGURATION_NAMES.get(testClass).computeIfAbsent(method, m -> generateConfigurationName(testClass, m));
+	}
+
+	@Nonnull
+	private static String generateConfigurationName(@Nonnull Class<?> testClass, @Nonnull Method method) {
 		DisplayName displayName = method.getDeclaredAnnotation(DisplayName.class);
 		if (displayName != null) {
 			return displayName.value();
@@ -807,12 +1249,13 @@ public class ReportPortalExtension
 			displayNameGenerator = testClass.getDeclaredAnnotation(DisplayNameGeneration.class);
 		}
 		if (displayNameGenerator != null) {
-			Class<? extends DisplayNameGenerator> generatorClass = displayNameGenerator.value();
-			try {
-				DisplayNameGenerator generator = generatorClass.getConstructor().newInstance();
-				return generator.generateDisplayNameForMethod(testClass, method);
-			} catch (Exception e) {
-				LOGGER.error("Unable instantiate a display name generator. Name generation skipped.", e);
+			Optional<DisplayNameGenerator> generator = DISPLAY_NAME_GENERATORS.get(displayNameGenerator.value());
+			if (generator.isPresent()) {
+				try {
+					return generator.get().generateDisplayNameForMethod(testClass, method);
+				} catch (Exception e) {
+					LOGGER.error("Unable to generate a display name for a configuration method. Name generation skipped.", e);
+				}
 			}
 		}
 		return method.getName() + "()";
@@ -834,19 +1277,7 @@ public class ReportPortalExtension
 		if (!optionalMethod.isPresent()){
 			return defaultValue;
 		}
-		Method method = optionalMethod.get();
-
-		Description descriptionFromMethod = method.getAnnotation(Description.class);
-		if(descriptionFromMethod != null){
-			return descriptionFromMethod.value();
-		}
-
-		Description descriptionFromClass = method.getDeclaringClass().getAnnotation(Description.class);
-		if(descriptionFromClass != null){
-			return descriptionFromClass.value();
-		}
-
-		return defaultValue;
+		return ofNullable(ElementMetadata.of(optionalMethod.get()).getDescription()).orElse(defaultValue);
 	}
 
 	private Optional<Method> getOptionalTestMethod(ExtensionContext context){
@@ -884,13 +1315,8 @@ public class ReportPortalExtension
 	 */
 	protected void reportSkippedStep(ReflectiveInvocationContext<Method> invocationContext, ExtensionContext context,
 			Throwable throwable, Date eventTime) {
-		Date skipStartTime = Calendar.getInstance().getTime();
-		if (skipStartTime.after(eventTime)) {
-			// to fix item ordering when @AfterEach starts in the same millisecond as skipped test
-			skipStartTime = new Date(skipStartTime.getTime() - 1);
-		}
 		final ItemType itemType = STEP;
-		startTestItem(context, invocationContext.getArguments(), itemType, createStepDescription(context, itemType), skipStartTime);
+		startTestItem(context, invocationContext.getArguments(), itemType, createStepDescription(context, itemType), null);
 		createSkippedSteps(context, throwable);
 		FinishTestItemRQ finishRq = buildFinishTestItemRq(context, SKIPPED);
 		finishRq.setIssue(Launch.NOT_ISSUE);
@@ -915,18 +1341,55 @@ public class ReportPortalExtension
 	 * @param cause a {@link Throwable}
 	 */
 	protected void sendStackTraceToRP(final Throwable cause) {
-		ReportPortal.emitLog(itemUuid -> {
-			SaveLogRQ rq = new SaveLogRQ();
-			rq.setItemUuid(itemUuid);
-			rq.setLevel("ERROR");
-			rq.setLogTime(Calendar.getInstance().getTime());
-			if (cause != null) {
-				rq.setMessage(getStackTrace(cause));
-			} else {
-				rq.setMessage("Test has failed without exception");
-			}
-			rq.setLogTime(Calendar.getInstance().getTime());
-			return rq;
-		});
+		long start = getMetrics().start();
+		AgentEvent event = AgentEvents.beginLog();
+		try {
+			String message = cause != null ? formatStackTrace(cause) : "Test has failed without exception";
+			ReportPortal.emitLog(itemUuid -> {
+				SaveLogRQ rq = new SaveLogRQ();
+				rq.setItemUuid(itemUuid);
+				rq.setLevel("ERROR");
+				rq.setMessage(message);
+				rq.setLogTime(new Date(getClock().currentTimeMillis()));
+				return rq;
+			});
+			AgentEvents.commitLog(event, "ERROR", message.length(), false);
+		} finally {
+			getMetrics().record(AgentMetrics.Callback.SEND_STACK_TRACE, start);
+		}
+	}
+
+	/**
+	 * Formats a stack trace of a {@link Throwable} with framework frames filtered. If the same stack trace was already reported in the
+	 * launch only the exception description and its top frame are returned, with a reference to the first occurrence by the trace
+	 * fingerprint. If the failure is a part of a failure storm only the exception description is returned, and the item is marked with
+	 * {@link #FAILURE_CLUSTER_ATTRIBUTE} attribute on finish.
+	 *
+	 * @param cause a {@link Throwable}
+	 * @return log message text
+	 */
+	@Nonnull
+	protected String formatStackTrace(@Nonnull final Throwable cause) {
+		StackTrace stackTrace = STACK_TRACE_FORMATTER.format(cause);
+		String cluster = stackTrace.getRootCauseFingerprint();
+		switch (FAILURE_STORM_DETECTOR.register(cluster, stackTrace.getHeadline())) {
+			case STORM_STARTED:
+				FAILURE_CLUSTERS.put(cause, cluster);
+				return stackTrace.getText() + "\nFailure storm detected, cluster: " + cluster
+						+ ". Further failures of the cluster are reported without stack traces";
+			case STORM:
+				FAILURE_CLUSTERS.put(cause, cluster);
+				return cause + "\nFailure storm cluster: " + cluster + ", the stack trace is reported with the first failure of the storm";
+			default:
+				break;
+		}
+		if (!STACK_TRACE_DEDUPLICATION) {
+			return stackTrace.getText();
+		}
+		if (REPORTED_STACK_TRACES.add(stackTrace.getFingerprint())) {
+			return stackTrace.getText() + "\nStack trace fingerprint: " + stackTrace.getFingerprint();
+		}
+		return stackTrace.getHeadline() + "\nThe same stack trace was already reported in this launch, fingerprint: "
+				+ stackTrace.getFingerprint();
 	}
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent map which computes absent values outside of map locks. Unlike {@link ConcurrentHashMap#computeIfAbsent}, which holds
+ * a bin lock while the value is computed, a computing thread only reserves the key, so threads which work with other keys never wait
+ * for it. Threads which need the same key wait till the value is published. If the computation fails one of the waiting threads
+ * retries it.
+ *
+ * @param <V> value type
+ */
+final class ReservingMap<V> {
+
+	private final Map<String, V> values = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<V>> reservations = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the value mapped to the key, computes and publishes it if there is no such value
+	 *
+	 * @param key      a key
+	 * @param function a function to compute the value, should not return <code>null</code>
+	 * @return the current or computed value
+	 */
+	@Nonnull
+	V computeIfAbsent(@Nonnull String key, @Nonnull Function<String, V> function) {
+		V value = values.get(key);
+		while (value == null) {
+			CompletableFuture<V> reservation = new CompletableFuture<>();
+			CompletableFuture<V> existing = reservations.putIfAbsent(key, reservation);
+			if (existing != null) {
+				// computed by another thread, null result means the computation failed and should be retried
+				value = existing.handle((v, e) -> v).join();
+				continue;
+			}
+			try {
+				// the value could be published between the first check and the reservation
+				value = values.get(key);
+				if (value == null) {
+					value = function.apply(key);
+					values.put(key, value);
+				}
+				reservation.complete(value);
+			} catch (RuntimeException | Error e) {
+				reservation.completeExceptionally(e);
+				throw e;
+			} finally {
+				reservations.remove(key, reservation);
+			}
+		}
+		return value;
+	}
+
+	@Nullable
+	V get(@Nonnull String key) {
+		return values.get(key);
+	}
+
+	boolean containsKey(@Nonnull String key) {
+		return values.containsKey(key);
+	}
+
+	@Nullable
+	V remove(@Nonnull String key) {
+		return values.remove(key);
+	}
+
+	/**
+	 * @return a live view of the map keys
+	 */
+	@Nonnull
+	Set<String> keySet() {
+		return values.keySet();
+	}
+}
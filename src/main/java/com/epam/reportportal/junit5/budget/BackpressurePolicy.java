@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.budget;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * What happens to a log batch which doesn't fit into the in-flight bytes budget. Item requests can't be dropped, so a test thread
+ * always waits for a free item slot, whatever the policy is.
+ */
+public enum BackpressurePolicy {
+	/**
+	 * The batch is sent, the test thread waits for the budget before the next item start or finish
+	 */
+	BLOCK,
+	/**
+	 * <code>DEBUG</code> and <code>TRACE</code> logs are dropped from the batch, the rest is handled as in {@link #BLOCK} policy
+	 */
+	DROP_LOGS,
+	/**
+	 * The batch is written to a local disk queue and sent when the budget frees up, or before the launch finish
+	 */
+	SPILL;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BackpressurePolicy.class);
+
+	/**
+	 * @param value a policy name, case-insensitive
+	 * @return the policy, {@link #BLOCK} if the value is not set or unknown
+	 */
+	@Nonnull
+	public static BackpressurePolicy of(@Nullable String value) {
+		if (value == null) {
+			return BLOCK;
+		}
+		return Arrays.stream(values()).filter(p -> p.name().equalsIgnoreCase(value)).findAny().orElseGet(() -> {
+			LOGGER.warn("Unknown backpressure policy '{}', '{}' policy is used", value, BLOCK.name().toLowerCase());
+			return BLOCK;
+		});
+	}
+}
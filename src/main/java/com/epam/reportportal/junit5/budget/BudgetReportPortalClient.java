@@ -0,0 +1,290 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.budget;
+
+import com.epam.reportportal.junit5.spool.MultipartCodec;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.buildLogMultiPartRequest;
+
+/**
+ * {@link ReportPortalClient} which keeps log batches sent to the delegate within {@link InFlightBudget} bytes. A batch which doesn't fit
+ * is handled according to the budget {@link BackpressurePolicy}: sent anyway, so test threads wait for the budget, sent without
+ * <code>DEBUG</code> and <code>TRACE</code> logs, or spilled to a disk queue. Spilled batches are sent when in-flight batches complete,
+ * the rest of them before the launch finish.
+ */
+public class BudgetReportPortalClient implements ReportPortalClient, Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetReportPortalClient.class);
+
+	/**
+	 * Levels of logs which are dropped first under {@link BackpressurePolicy#DROP_LOGS} policy
+	 */
+	public static final Set<String> VERBOSE_LEVELS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("DEBUG", "TRACE")));
+
+	private final ReportPortalClient delegate;
+	private final InFlightBudget budget;
+	private final SpillQueue spill;
+	private final AtomicInteger drainRequests = new AtomicInteger();
+	private final AtomicLong droppedLogs = new AtomicLong();
+	private final AtomicLong spilledBatches = new AtomicLong();
+
+	/**
+	 * @param delegate       a client which sends requests to the server
+	 * @param budget         in-flight budget
+	 * @param spillDirectory directory for {@link BackpressurePolicy#SPILL} policy disk queue
+	 */
+	public BudgetReportPortalClient(@Nonnull ReportPortalClient delegate, @Nonnull InFlightBudget budget,
+			@Nonnull Path spillDirectory) {
+		this.delegate = delegate;
+		this.budget = budget;
+		this.spill = budget.getPolicy() == BackpressurePolicy.SPILL ? new SpillQueue(spillDirectory) : null;
+	}
+
+	/**
+	 * @return number of logs dropped under {@link BackpressurePolicy#DROP_LOGS} policy
+	 */
+	public long getDroppedLogs() {
+		return droppedLogs.get();
+	}
+
+	/**
+	 * @return number of log batches spilled to the disk queue under {@link BackpressurePolicy#SPILL} policy
+	 */
+	public long getSpilledBatches() {
+		return spilledBatches.get();
+	}
+
+	private static long size(@Nonnull List<MultipartBody.Part> parts) {
+		long size = 0;
+		for (MultipartBody.Part part : parts) {
+			try {
+				size += Math.max(part.body().contentLength(), 0);
+			} catch (IOException ignore) {
+				// unknown length, the part is not counted
+			}
+		}
+		return size;
+	}
+
+	@Nonnull
+	private Maybe<BatchSaveOperatingRS> send(@Nonnull List<MultipartBody.Part> parts, long size) {
+		AtomicBoolean released = new AtomicBoolean();
+		return delegate.log(parts).doFinally(() -> {
+			if (released.compareAndSet(false, true)) {
+				budget.releaseBytes(size);
+				drain();
+			}
+		});
+	}
+
+	/**
+	 * Drops verbose logs from a batch
+	 *
+	 * @param parts multipart log batch
+	 * @return the batch without verbose logs, or <code>null</code> if nothing is left
+	 * @throws IOException if the batch can't be decoded
+	 */
+	@Nullable
+	private List<MultipartBody.Part> dropVerbose(@Nonnull List<MultipartBody.Part> parts) throws IOException {
+		List<SaveLogRQ> logs = MultipartCodec.decodeLogs(MultipartCodec.encode(parts));
+		List<SaveLogRQ> kept = logs.stream()
+				.filter(l -> l.getLevel() == null || !VERBOSE_LEVELS.contains(l.getLevel().toUpperCase(Locale.ROOT)))
+				.collect(Collectors.toList());
+		droppedLogs.addAndGet(logs.size() - kept.size());
+		if (kept.size() == logs.size()) {
+			return parts;
+		}
+		return kept.isEmpty() ? null : buildLogMultiPartRequest(kept);
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> rq) {
+		long size = size(rq);
+		if (budget.tryAcquireBytes(size)) {
+			return send(rq, size);
+		}
+		List<MultipartBody.Part> parts = rq;
+		try {
+			if (spill != null) {
+				spill.offer(MultipartCodec.encode(rq));
+				spilledBatches.incrementAndGet();
+				return Maybe.just(new BatchSaveOperatingRS());
+			}
+			if (budget.getPolicy() == BackpressurePolicy.DROP_LOGS) {
+				parts = dropVerbose(rq);
+				if (parts == null) {
+					return Maybe.just(new BatchSaveOperatingRS());
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Unable to apply {} policy to a log batch, the batch is sent over the budget", budget.getPolicy(), e);
+			parts = rq;
+		}
+		long partsSize = parts == rq ? size : size(parts);
+		budget.acquireBytes(partsSize);
+		return send(parts, partsSize);
+	}
+
+	/**
+	 * Sends spilled batches while they fit into the budget. Concurrent calls are merged: the thread which drains the queue repeats the
+	 * attempt for the calls which came meanwhile.
+	 */
+	private void drain() {
+		if (spill == null || drainRequests.getAndIncrement() != 0) {
+			return;
+		}
+		int requests = 1;
+		do {
+			try {
+				byte[] payload;
+				while (true) {
+					synchronized (spill) {
+						payload = spill.peek();
+						if (payload == null || !budget.tryAcquireBytes(payload.length)) {
+							break;
+						}
+						spill.remove();
+					}
+					//noinspection ResultOfMethodCallIgnored
+					send(MultipartCodec.decode(payload), payload.length).subscribe(r -> {
+					}, e -> LOGGER.warn("Unable to send a spilled log batch", e));
+				}
+			} catch (IOException e) {
+				LOGGER.error("Unable to read spilled log batches", e);
+			}
+			requests = drainRequests.addAndGet(-requests);
+		} while (requests != 0);
+	}
+
+	/**
+	 * Sends all spilled batches regardless of the budget and waits till they are sent
+	 */
+	private void sendSpilled() {
+		try {
+			byte[] payload;
+			while ((payload = spill.poll()) != null) {
+				try {
+					delegate.log(MultipartCodec.decode(payload)).blockingGet();
+				} catch (RuntimeException e) {
+					LOGGER.warn("Unable to send a spilled log batch", e);
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.error("Unable to read spilled log batches", e);
+		}
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		if (spill == null) {
+			return delegate.finishLaunch(launch, rq);
+		}
+		return Maybe.defer(() -> {
+			sendSpilled();
+			return delegate.finishLaunch(launch, rq);
+		});
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return delegate.startLaunch(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return delegate.mergeLaunches(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchUuid, UpdateLaunchRQ rq) {
+		return delegate.updateLaunch(launchUuid, rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return delegate.startTestItem(rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		return delegate.startTestItem(parent, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		return delegate.finishTestItem(itemId, rq);
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return delegate.log(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String uuid) {
+		return delegate.getLaunchByUuid(uuid);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String uuid) {
+		return delegate.getItemByUuid(uuid);
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return delegate.getProjectSettings();
+	}
+
+	/**
+	 * Deletes the spill queue, batches which are left in it are lost, and closes the delegate client if it's {@link Closeable}
+	 *
+	 * @throws IOException if the queue can't be deleted or the delegate can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (spill != null) {
+				spill.close();
+			}
+		} finally {
+			if (delegate instanceof Closeable) {
+				((Closeable) delegate).close();
+			}
+		}
+	}
+}
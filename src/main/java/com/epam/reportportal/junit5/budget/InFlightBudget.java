@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.budget;
+
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of item requests and the size of log batches which are sent to ReportPortal and are not completed yet, so memory
+ * used by pending requests stays bounded however slow the server is. Item slots are taken on test threads, which wait for a free slot,
+ * and are released when a request completes. Log bytes are taken by {@link BudgetReportPortalClient}. A non-positive limit disables
+ * the corresponding check.
+ */
+public class InFlightBudget {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(InFlightBudget.class);
+
+	private final int maxItems;
+	private final long maxBytes;
+	private final BackpressurePolicy policy;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private int items;
+	private long bytes;
+
+	/**
+	 * @param maxItems maximum number of in-flight item start and finish requests
+	 * @param maxBytes maximum size of in-flight log batches in bytes
+	 * @param policy   what happens to log batches which don't fit into the budget
+	 */
+	public InFlightBudget(int maxItems, long maxBytes, @Nonnull BackpressurePolicy policy) {
+		this.maxItems = maxItems;
+		this.maxBytes = maxBytes;
+		this.policy = policy;
+	}
+
+	/**
+	 * @return a budget which limits nothing
+	 */
+	@Nonnull
+	public static InFlightBudget unlimited() {
+		return new InFlightBudget(0, 0, BackpressurePolicy.BLOCK);
+	}
+
+	/**
+	 * @return whether item requests are limited
+	 */
+	public boolean isItemLimited() {
+		return maxItems > 0;
+	}
+
+	/**
+	 * @return whether log bytes are limited
+	 */
+	public boolean isByteLimited() {
+		return maxBytes > 0;
+	}
+
+	@Nonnull
+	public BackpressurePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * @return number of in-flight item requests
+	 */
+	public int getItems() {
+		lock.lock();
+		try {
+			return items;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return size of in-flight log batches in bytes
+	 */
+	public long getBytes() {
+		lock.lock();
+		try {
+			return bytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Sends an item request within the budget: waits till in-flight log bytes fit into the budget and an item slot is free, then sends
+	 * the request and releases the slot when the request completes. If the thread is interrupted while waiting, the request is sent
+	 * over the budget and the interrupt status is kept.
+	 *
+	 * @param request sends the request, it's expected to return an already subscribed (cached) result, like
+	 *                {@link com.epam.reportportal.service.Launch} methods do
+	 * @param <T>     response type
+	 * @return the request result
+	 */
+	@Nullable
+	public <T> Maybe<T> sendItem(@Nonnull Supplier<Maybe<T>> request) {
+		if (!isItemLimited() && !isByteLimited()) {
+			return request.get();
+		}
+		acquireItem();
+		Maybe<T> result;
+		try {
+			result = request.get();
+		} catch (RuntimeException e) {
+			releaseItem();
+			throw e;
+		}
+		if (result == null) {
+			releaseItem();
+			return null;
+		}
+		AtomicBoolean done = new AtomicBoolean();
+		Runnable release = () -> {
+			if (done.compareAndSet(false, true)) {
+				releaseItem();
+			}
+		};
+		//noinspection ResultOfMethodCallIgnored
+		result.subscribe(r -> release.run(), e -> release.run(), release::run);
+		return result;
+	}
+
+	private void acquireItem() {
+		lock.lock();
+		try {
+			while ((isItemLimited() && items >= maxItems) || (isByteLimited() && bytes > maxBytes)) {
+				released.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Interrupted while waiting for reporting budget, the request is sent over the budget");
+		} finally {
+			items++;
+			lock.unlock();
+		}
+	}
+
+	private void releaseItem() {
+		lock.lock();
+		try {
+			items--;
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes log bytes if they fit into the budget. A batch which is bigger than the whole budget fits if nothing else is in flight, so
+	 * it's not stuck forever.
+	 *
+	 * @param size batch size in bytes
+	 * @return <code>true</code> if the bytes are taken
+	 */
+	public boolean tryAcquireBytes(long size) {
+		lock.lock();
+		try {
+			if (isByteLimited() && bytes > 0 && bytes + size > maxBytes) {
+				return false;
+			}
+			bytes += size;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes log bytes regardless of the budget, test threads wait till they are released
+	 *
+	 * @param size batch size in bytes
+	 */
+	public void acquireBytes(long size) {
+		lock.lock();
+		try {
+			bytes += size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases previously taken log bytes
+	 *
+	 * @param size batch size in bytes
+	 */
+	public void releaseBytes(long size) {
+		lock.lock();
+		try {
+			bytes -= size;
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
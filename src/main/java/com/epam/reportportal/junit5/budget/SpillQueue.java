@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.budget;
+
+import com.epam.reportportal.junit5.spool.JournalReader;
+import com.epam.reportportal.junit5.spool.JournalRecord;
+import com.epam.reportportal.junit5.spool.JournalWriter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * First-in-first-out queue of log batches on a disk. Batches are appended to a journal segment, which is sealed and read back when
+ * the queue is drained, new batches go to a new segment meanwhile. A drained segment is deleted.
+ */
+class SpillQueue implements Closeable {
+
+	private static final String SEGMENT_PREFIX = "spill-";
+	private static final String SEGMENT_EXTENSION = ".journal";
+
+	private final Path directory;
+	private Path writing;
+	private JournalWriter writer;
+	private Path reading;
+	private JournalReader reader;
+	private byte[] head;
+	private int size;
+
+	SpillQueue(@Nonnull Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Appends a batch to the tail of the queue
+	 *
+	 * @param payload encoded log batch
+	 * @throws IOException if the batch can't be written
+	 */
+	public synchronized void offer(@Nonnull byte[] payload) throws IOException {
+		if (writer == null) {
+			Files.createDirectories(directory);
+			writing = directory.resolve(SEGMENT_PREFIX + UUID.randomUUID() + SEGMENT_EXTENSION);
+			writer = new JournalWriter(writing);
+		}
+		writer.append(new JournalRecord(JournalRecord.Type.LOG_BATCH, null, null, payload));
+		size++;
+	}
+
+	/**
+	 * @return the batch at the head of the queue, or <code>null</code> if the queue is empty
+	 * @throws IOException if a segment can't be read
+	 */
+	@Nullable
+	public synchronized byte[] peek() throws IOException {
+		while (head == null) {
+			if (reader == null) {
+				if (writer == null) {
+					return null;
+				}
+				writer.close();
+				writer = null;
+				reading = writing;
+				reader = new JournalReader(reading);
+			}
+			JournalRecord record = reader.next();
+			if (record == null) {
+				closeReader();
+				continue;
+			}
+			head = record.getPayload();
+		}
+		return head;
+	}
+
+	/**
+	 * Removes the batch at the head of the queue
+	 */
+	public synchronized void remove() {
+		if (head != null) {
+			head = null;
+			size--;
+		}
+	}
+
+	/**
+	 * Removes and returns the batch at the head of the queue
+	 *
+	 * @return the batch, or <code>null</code> if the queue is empty
+	 * @throws IOException if a segment can't be read
+	 */
+	@Nullable
+	public synchronized byte[] poll() throws IOException {
+		byte[] payload = peek();
+		remove();
+		return payload;
+	}
+
+	/**
+	 * @return number of batches in the queue
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	private void closeReader() throws IOException {
+		reader.close();
+		reader = null;
+		try {
+			Files.deleteIfExists(reading);
+		} catch (IOException e) {
+			// Some platforms don't allow deletion of a file while its mapped buffer is not collected
+			reading.toFile().deleteOnExit();
+		}
+	}
+
+	/**
+	 * Closes the queue and deletes its segments, batches which are left in the queue are lost
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (reader != null) {
+			closeReader();
+		}
+		if (writer != null) {
+			writer.close();
+			writer = null;
+			Files.deleteIfExists(writing);
+		}
+		head = null;
+		size = 0;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.clock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A clock which reads the system wall clock only once, on creation, and derives the current time from {@link System#nanoTime()}
+ * since then. The time never goes backwards, even if the system clock is adjusted during a launch, and reading it doesn't allocate.
+ */
+public class MonotonicClock implements ReportingClock {
+
+	private final long anchorMillis;
+	private final long anchorNanos;
+
+	public MonotonicClock() {
+		anchorMillis = System.currentTimeMillis();
+		anchorNanos = System.nanoTime();
+	}
+
+	@Override
+	public long currentTimeMillis() {
+		return anchorMillis + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - anchorNanos);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.jfr;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Java Flight Recorder events of the agent: extension callbacks, test item starts and finishes and log emissions, so recordings show
+ * which share of test time is spent on reporting. The events are disabled by default, enable them in recording settings, e.g.
+ * <code>com.epam.reportportal.junit5.ItemStart#enabled=true</code>.
+ * <p>
+ * Java Flight Recorder API is available since Java 11, the agent emits events on Java 17+ through a multi-release JAR class. This
+ * version is used on older runtimes and emits nothing. A <code>begin</code> method returns <code>null</code> when the event is not
+ * recorded, so a disabled event costs a method call; callers skip computing costly event fields for <code>null</code> events.
+ */
+public final class AgentEvents {
+
+	private AgentEvents() {
+	}
+
+	/**
+	 * @return whether the runtime supports agent events
+	 */
+	public static boolean isSupported() {
+		return false;
+	}
+
+	/**
+	 * Begins an extension callback event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginCallback() {
+		return null;
+	}
+
+	/**
+	 * Commits an extension callback event
+	 *
+	 * @param event    an event returned by {@link #beginCallback()}
+	 * @param callback the callback name
+	 * @param uniqueId a unique ID of the callback context
+	 */
+	public static void commitCallback(@Nullable AgentEvent event, @Nonnull String callback, @Nonnull String uniqueId) {
+	}
+
+	/**
+	 * Begins a test item start event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginItemStart() {
+		return null;
+	}
+
+	/**
+	 * Commits a test item start event
+	 *
+	 * @param event    an event returned by {@link #beginItemStart()}
+	 * @param uniqueId a unique ID of the item context
+	 * @param itemType the item type
+	 * @param codeRef  the item code reference
+	 */
+	public static void commitItemStart(@Nullable AgentEvent event, @Nonnull String uniqueId, @Nullable String itemType,
+			@Nullable String codeRef) {
+	}
+
+	/**
+	 * Begins a test item finish event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginItemFinish() {
+		return null;
+	}
+
+	/**
+	 * Commits a test item finish event
+	 *
+	 * @param event    an event returned by {@link #beginItemFinish()}
+	 * @param uniqueId a unique ID of the item context
+	 * @param itemType the item type
+	 * @param codeRef  the item code reference
+	 * @param status   the item status
+	 */
+	public static void commitItemFinish(@Nullable AgentEvent event, @Nonnull String uniqueId, @Nullable String itemType,
+			@Nullable String codeRef, @Nullable String status) {
+	}
+
+	/**
+	 * Begins a log emission event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginLog() {
+		return null;
+	}
+
+	/**
+	 * Commits a log emission event
+	 *
+	 * @param event     an event returned by {@link #beginLog()}
+	 * @param level     the log level
+	 * @param length    the log message length
+	 * @param launchLog whether the log is attached to the launch rather than to a test item
+	 */
+	public static void commitLog(@Nullable AgentEvent event, @Nonnull String level, int length, boolean launchLog) {
+	}
+}
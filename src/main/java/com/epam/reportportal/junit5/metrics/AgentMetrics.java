@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live agent metrics: callback latency histograms, started, finished and pending test items, open templates and reporting queue
+ * depth. Disabled metrics record nothing and don't read the clock.
+ */
+public class AgentMetrics implements AgentMetricsMXBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AgentMetrics.class);
+
+	/**
+	 * JMX object name the metrics are registered with
+	 */
+	public static final String OBJECT_NAME = "com.epam.reportportal.junit5:type=AgentMetrics";
+
+	/**
+	 * Instrumented extension callbacks
+	 */
+	public enum Callback {
+		BEFORE_ALL,
+		INTERCEPT_TEST_METHOD,
+		AFTER_TEST_EXECUTION,
+		AFTER_ALL,
+		SEND_STACK_TRACE
+	}
+
+	private final boolean enabled;
+	private final Map<Callback, LatencyHistogram> latencies = new EnumMap<>(Callback.class);
+	private final LongAdder itemsStarted = new LongAdder();
+	private final LongAdder itemsFinished = new LongAdder();
+	// pending counters are not reset with the others
+	private final LongAdder itemsPending = new LongAdder();
+	private final LongAdder openTemplates = new LongAdder();
+	private volatile ExecutorService reportingExecutor;
+
+	/**
+	 * @param enabled whether the metrics are recorded
+	 */
+	public AgentMetrics(boolean enabled) {
+		this.enabled = enabled;
+		for (Callback callback : Callback.values()) {
+			latencies.put(callback, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Creates metrics and registers them with the platform MBean server as {@link #OBJECT_NAME} if enabled. A registration failure, e.g.
+	 * when the agent is loaded by several class loaders, is logged and the metrics are still recorded.
+	 *
+	 * @param enabled whether the metrics are recorded and published
+	 * @return the metrics
+	 */
+	@Nonnull
+	public static AgentMetrics create(boolean enabled) {
+		AgentMetrics metrics = new AgentMetrics(enabled);
+		if (enabled) {
+			metrics.register(ManagementFactory.getPlatformMBeanServer());
+		}
+		return metrics;
+	}
+
+	/**
+	 * Registers the metrics with an MBean server as {@link #OBJECT_NAME}
+	 *
+	 * @param server an MBean server
+	 * @return <code>true</code> if the metrics were registered
+	 */
+	public boolean register(@Nonnull MBeanServer server) {
+		try {
+			server.registerMBean(this, new ObjectName(OBJECT_NAME));
+			return true;
+		} catch (JMException e) {
+			LOGGER.warn("Unable to register agent metrics as '{}' MBean", OBJECT_NAME, e);
+			return false;
+		}
+	}
+
+	/**
+	 * @return whether the metrics are recorded
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Sets an executor which runs reporting I/O, to report its queue depth
+	 *
+	 * @param executor the executor
+	 */
+	public void setReportingExecutor(@Nullable ExecutorService executor) {
+		reportingExecutor = executor;
+	}
+
+	/**
+	 * Starts a callback latency measurement
+	 *
+	 * @return a start mark to pass to {@link #record}
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Records a callback latency
+	 *
+	 * @param callback the callback
+	 * @param start    a start mark returned by {@link #start}
+	 */
+	public void record(@Nonnull Callback callback, long start) {
+		if (enabled) {
+			latencies.get(callback).record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Counts a started test item
+	 */
+	public void itemStarted() {
+		if (enabled) {
+			itemsStarted.increment();
+			itemsPending.increment();
+		}
+	}
+
+	/**
+	 * Counts a finished test item
+	 */
+	public void itemFinished() {
+		if (enabled) {
+			itemsFinished.increment();
+			itemsPending.decrement();
+		}
+	}
+
+	/**
+	 * Counts a started test template
+	 */
+	public void templateStarted() {
+		if (enabled) {
+			openTemplates.increment();
+		}
+	}
+
+	/**
+	 * Counts a finished test template
+	 */
+	public void templateFinished() {
+		if (enabled) {
+			openTemplates.decrement();
+		}
+	}
+
+	/**
+	 * @param callback a callback
+	 * @return latencies of the callback
+	 */
+	@Nonnull
+	public LatencySnapshot getLatency(@Nonnull Callback callback) {
+		return latencies.get(callback).snapshot();
+	}
+
+	@Override
+	public long getItemsStarted() {
+		return itemsStarted.sum();
+	}
+
+	@Override
+	public long getItemsFinished() {
+		return itemsFinished.sum();
+	}
+
+	@Override
+	public long getItemsPending() {
+		return itemsPending.sum();
+	}
+
+	@Override
+	public long getOpenTemplates() {
+		return openTemplates.sum();
+	}
+
+	@Override
+	public int getReportingQueueDepth() {
+		ExecutorService executor = reportingExecutor;
+		return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getQueue().size() : -1;
+	}
+
+	@Override
+	public LatencySnapshot getBeforeAllLatency() {
+		return getLatency(Callback.BEFORE_ALL);
+	}
+
+	@Override
+	public LatencySnapshot getInterceptTestMethodLatency() {
+		return getLatency(Callback.INTERCEPT_TEST_METHOD);
+	}
+
+	@Override
+	public LatencySnapshot getAfterTestExecutionLatency() {
+		return getLatency(Callback.AFTER_TEST_EXECUTION);
+	}
+
+	@Override
+	public LatencySnapshot getAfterAllLatency() {
+		return getLatency(Callback.AFTER_ALL);
+	}
+
+	@Override
+	public LatencySnapshot getSendStackTraceLatency() {
+		return getLatency(Callback.SEND_STACK_TRACE);
+	}
+
+	@Override
+	public void reset() {
+		latencies.values().forEach(LatencyHistogram::reset);
+		itemsStarted.reset();
+		itemsFinished.reset();
+	}
+}
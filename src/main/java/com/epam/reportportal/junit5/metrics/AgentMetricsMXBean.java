@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.metrics;
+
+/**
+ * JMX view of the agent metrics. Latencies are agent's own time spent in a callback, without the test code it wraps.
+ */
+public interface AgentMetricsMXBean {
+
+	/**
+	 * @return number of test items started since the metrics were created or reset
+	 */
+	long getItemsStarted();
+
+	/**
+	 * @return number of test items finished since the metrics were created or reset
+	 */
+	long getItemsFinished();
+
+	/**
+	 * @return number of started and not yet finished test items
+	 */
+	long getItemsPending();
+
+	/**
+	 * @return number of started and not yet finished test templates
+	 */
+	long getOpenTemplates();
+
+	/**
+	 * @return number of reporting requests waiting for an I/O thread, or <code>-1</code> if the executor doesn't queue them
+	 */
+	int getReportingQueueDepth();
+
+	/**
+	 * @return latencies of <code>beforeAll</code> callback
+	 */
+	LatencySnapshot getBeforeAllLatency();
+
+	/**
+	 * @return latencies of <code>interceptTestMethod</code> callback
+	 */
+	LatencySnapshot getInterceptTestMethodLatency();
+
+	/**
+	 * @return latencies of <code>afterTestExecution</code> callback
+	 */
+	LatencySnapshot getAfterTestExecutionLatency();
+
+	/**
+	 * @return latencies of <code>afterAll</code> callback
+	 */
+	LatencySnapshot getAfterAllLatency();
+
+	/**
+	 * @return latencies of stack trace formatting and reporting
+	 */
+	LatencySnapshot getSendStackTraceLatency();
+
+	/**
+	 * Forgets recorded latencies and item counts, pending items and open templates are kept
+	 */
+	void reset();
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.metrics;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power of two buckets: bucket <code>i</code> counts latencies from <code>2^(i-1)</code> inclusive
+ * to <code>2^i</code> exclusive nanoseconds, bucket 0 counts zero latencies. Recording costs a few uncontended additions, so it can
+ * be called on every test callback from many threads.
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * Number of buckets, enough for any non-negative <code>long</code> latency
+	 */
+	public static final int BUCKETS = Long.SIZE;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Returns a bucket index of a latency
+	 *
+	 * @param nanos latency in nanoseconds
+	 * @return the bucket index
+	 */
+	public static int bucketOf(long nanos) {
+		return BUCKETS - Long.numberOfLeadingZeros(Math.max(nanos, 0));
+	}
+
+	/**
+	 * Returns the greatest latency a bucket counts
+	 *
+	 * @param bucket a bucket index
+	 * @return latency in nanoseconds
+	 */
+	public static long upperBoundOf(int bucket) {
+		return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+
+	/**
+	 * Records a latency, negative values are recorded as zero
+	 *
+	 * @param nanos latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		buckets[bucketOf(value)].increment();
+		total.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Takes a snapshot of the histogram. Latencies recorded concurrently may be partially included.
+	 *
+	 * @return the snapshot
+	 */
+	@Nonnull
+	public LatencySnapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets[i].sum();
+		}
+		return new LatencySnapshot(counts, total.sum(), max.get());
+	}
+
+	/**
+	 * Forgets all recorded latencies
+	 */
+	public void reset() {
+		for (LongAdder bucket : buckets) {
+			bucket.reset();
+		}
+		total.reset();
+		max.reset();
+	}
+}
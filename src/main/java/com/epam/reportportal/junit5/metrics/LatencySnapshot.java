@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.metrics;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable view of a {@link LatencyHistogram}. Percentiles are estimated with bucket upper bounds, so they are accurate within a
+ * factor of two and never exceed the maximum recorded latency.
+ */
+public final class LatencySnapshot {
+
+	private final long[] buckets;
+	private final long count;
+	private final long totalNanos;
+	private final long maxNanos;
+
+	LatencySnapshot(@Nonnull long[] buckets, long totalNanos, long maxNanos) {
+		this.buckets = buckets;
+		long sum = 0;
+		for (long bucket : buckets) {
+			sum += bucket;
+		}
+		this.count = sum;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+	}
+
+	/**
+	 * @return number of recorded latencies
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return sum of recorded latencies in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return mean latency in nanoseconds, or zero if nothing was recorded
+	 */
+	public long getMeanNanos() {
+		return count == 0 ? 0 : totalNanos / count;
+	}
+
+	/**
+	 * @return maximum recorded latency in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * @return estimated median latency in nanoseconds
+	 */
+	public long getP50Nanos() {
+		return getPercentileNanos(0.5);
+	}
+
+	/**
+	 * @return estimated 90th percentile latency in nanoseconds
+	 */
+	public long getP90Nanos() {
+		return getPercentileNanos(0.9);
+	}
+
+	/**
+	 * @return estimated 99th percentile latency in nanoseconds
+	 */
+	public long getP99Nanos() {
+		return getPercentileNanos(0.99);
+	}
+
+	/**
+	 * Estimates a latency percentile
+	 *
+	 * @param percentile a percentile from 0 to 1
+	 * @return the upper bound of the bucket where the percentile falls, or zero if nothing was recorded
+	 */
+	public long getPercentileNanos(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile * count));
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (seen >= rank) {
+				return Math.min(LatencyHistogram.upperBoundOf(i), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	/**
+	 * @return counts of recorded latencies by bucket, see {@link LatencyHistogram}
+	 */
+	@Nonnull
+	public long[] getBuckets() {
+		return buckets.clone();
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.retention;
+
+import com.epam.reportportal.junit5.spool.MultipartCodec;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.buildLogMultiPartRequest;
+import static com.epam.reportportal.utils.http.HttpRequestUtils.calculateRequestSize;
+
+/**
+ * {@link ReportPortalClient} which keeps item logs in a bounded per-item buffer till the item is finished. Logs of an item which
+ * finishes with {@link ItemStatus#PASSED} or {@link ItemStatus#SKIPPED} status are reduced to the given minimal level, logs of other
+ * items, including items with a status calculated by the server, are sent before the item finish. If a buffer is full the oldest logs
+ * are dropped, so the logs right before a failure are kept. Launch logs and logs which come after their item is finished are not
+ * buffered, the latter are reduced the same way as the item's buffer was. Buffers of items which are not finished are sent before the
+ * launch finish.
+ */
+public class RetentionReportPortalClient implements ReportPortalClient, Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RetentionReportPortalClient.class);
+
+	/**
+	 * Log levels by severity, unknown levels are considered as <code>INFO</code>
+	 */
+	public static final List<String> LEVELS = Collections.unmodifiableList(Arrays.asList("TRACE", "DEBUG", "INFO", "WARN", "ERROR", "FATAL"));
+
+	private static final Set<String> SUCCESSFUL_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			ItemStatus.PASSED.name(),
+			ItemStatus.SKIPPED.name()
+	)));
+	// decisions are kept for late logs of finished items, the oldest are forgotten
+	private static final int MAX_DECISIONS = 10_000;
+
+	private static class ItemLogs {
+		private final Deque<SaveLogRQ> logs = new ArrayDeque<>();
+		private long size;
+	}
+
+	private static class Decisions extends LinkedHashMap<String, Boolean> {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > MAX_DECISIONS;
+		}
+	}
+
+	private final ReportPortalClient delegate;
+	private final int minLevel;
+	private final long bufferSize;
+	private final Map<String, ItemLogs> buffers = new HashMap<>();
+	private final Map<String, Boolean> decisions = new Decisions();
+	private final AtomicLong droppedLogs = new AtomicLong();
+
+	/**
+	 * @param delegate   a client which sends requests
+	 * @param minLevel   minimal level of logs which are kept for passed items, <code>null</code> to drop all of them
+	 * @param bufferSize maximum size of buffered logs per item in bytes
+	 */
+	public RetentionReportPortalClient(@Nonnull ReportPortalClient delegate, @Nullable String minLevel, long bufferSize) {
+		this.delegate = delegate;
+		this.minLevel = minLevel == null ? Integer.MAX_VALUE : severity(minLevel);
+		this.bufferSize = bufferSize;
+	}
+
+	private static int severity(@Nullable String level) {
+		int severity = level == null ? -1 : LEVELS.indexOf(level.toUpperCase(Locale.ROOT));
+		return severity < 0 ? LEVELS.indexOf("INFO") : severity;
+	}
+
+	/**
+	 * @return number of logs which were not sent: dropped from full buffers or from buffers of passed items
+	 */
+	public long getDroppedLogs() {
+		return droppedLogs.get();
+	}
+
+	/**
+	 * @param flush whether logs are sent as is
+	 * @return a filter of logs which are sent
+	 */
+	@Nonnull
+	private Predicate<SaveLogRQ> retained(boolean flush) {
+		return l -> flush || severity(l.getLevel()) >= minLevel;
+	}
+
+	@Nonnull
+	private Maybe<BatchSaveOperatingRS> send(@Nonnull List<SaveLogRQ> logs) {
+		if (logs.isEmpty()) {
+			return Maybe.just(new BatchSaveOperatingRS());
+		}
+		return delegate.log(buildLogMultiPartRequest(logs));
+	}
+
+	private void buffer(@Nonnull String itemUuid, @Nonnull SaveLogRQ log) {
+		ItemLogs item = buffers.computeIfAbsent(itemUuid, k -> new ItemLogs());
+		item.logs.addLast(log);
+		item.size += calculateRequestSize(log);
+		while (item.size > bufferSize && item.logs.size() > 1) {
+			item.size -= calculateRequestSize(item.logs.removeFirst());
+			droppedLogs.incrementAndGet();
+		}
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> rq) {
+		List<SaveLogRQ> logs;
+		try {
+			logs = MultipartCodec.decodeLogs(MultipartCodec.encode(rq));
+		} catch (IOException e) {
+			LOGGER.warn("Unable to decode a log batch, the batch is sent as is", e);
+			return delegate.log(rq);
+		}
+		List<SaveLogRQ> sent = new ArrayList<>();
+		synchronized (buffers) {
+			for (SaveLogRQ log : logs) {
+				String itemUuid = log.getItemUuid();
+				if (itemUuid == null) {
+					sent.add(log);
+					continue;
+				}
+				Boolean flush = decisions.get(itemUuid);
+				if (flush == null) {
+					buffer(itemUuid, log);
+				} else if (retained(flush).test(log)) {
+					sent.add(log);
+				} else {
+					droppedLogs.incrementAndGet();
+				}
+			}
+		}
+		if (sent.size() == logs.size()) {
+			return delegate.log(rq);
+		}
+		return send(sent);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		boolean flush = rq.getStatus() == null || !SUCCESSFUL_STATUSES.contains(rq.getStatus().toUpperCase(Locale.ROOT));
+		ItemLogs item;
+		synchronized (buffers) {
+			decisions.put(itemId, flush);
+			item = buffers.remove(itemId);
+		}
+		if (item == null) {
+			return delegate.finishTestItem(itemId, rq);
+		}
+		List<SaveLogRQ> sent = item.logs.stream().filter(retained(flush)).collect(Collectors.toList());
+		droppedLogs.addAndGet(item.logs.size() - sent.size());
+		return send(sent).ignoreElement()
+				.doOnError(e -> LOGGER.warn("Unable to send buffered logs of item {}", itemId, e))
+				.onErrorComplete()
+				.andThen(delegate.finishTestItem(itemId, rq));
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return delegate.startLaunch(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return delegate.mergeLaunches(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchUuid, UpdateLaunchRQ rq) {
+		return delegate.updateLaunch(launchUuid, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		return Maybe.defer(() -> {
+			List<SaveLogRQ> sent = new ArrayList<>();
+			synchronized (buffers) {
+				buffers.values().forEach(item -> sent.addAll(item.logs));
+				buffers.clear();
+			}
+			return send(sent).ignoreElement()
+					.doOnError(e -> LOGGER.warn("Unable to send buffered logs of unfinished items", e))
+					.onErrorComplete()
+					.andThen(delegate.finishLaunch(launch, rq));
+		});
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return delegate.startTestItem(rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		return delegate.startTestItem(parent, rq);
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return delegate.log(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String uuid) {
+		return delegate.getLaunchByUuid(uuid);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String uuid) {
+		return delegate.getItemByUuid(uuid);
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return delegate.getProjectSettings();
+	}
+
+	/**
+	 * Closes the delegate client if it's {@link Closeable}, logs which are still buffered are not sent
+	 *
+	 * @throws IOException if the delegate can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (delegate instanceof Closeable) {
+			((Closeable) delegate).close();
+		}
+	}
+}
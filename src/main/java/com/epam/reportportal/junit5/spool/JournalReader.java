@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential spool journal reader, the journal file is memory-mapped in read-only mode
+ */
+public class JournalReader implements Closeable {
+
+	private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+	private final FileChannel channel;
+	private final long size;
+	private long regionStart;
+	private MappedByteBuffer region;
+
+	public JournalReader(@Nonnull Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		size = channel.size();
+		map(0);
+	}
+
+	private void map(long position) throws IOException {
+		regionStart = position;
+		region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAX_REGION_SIZE));
+	}
+
+	/**
+	 * @return offset of the next record in the journal file
+	 */
+	public long getPosition() {
+		return regionStart + region.position();
+	}
+
+	/**
+	 * Moves the reader to the specified offset, which should be previously obtained with {@link #getPosition()}
+	 *
+	 * @param position offset of a record in the journal file
+	 * @throws IOException if the journal can't be mapped
+	 */
+	public void seek(long position) throws IOException {
+		map(Math.min(position, size));
+	}
+
+	/**
+	 * Reads the next record
+	 *
+	 * @return the record or <code>null</code> if the end of the journal is reached
+	 * @throws IOException if the journal can't be mapped
+	 */
+	@Nullable
+	public JournalRecord next() throws IOException {
+		JournalRecord record = JournalRecord.decode(region);
+		if (record == null && region.position() > 0 && regionStart + region.limit() < size) {
+			// The record crosses the mapped region boundary
+			map(getPosition());
+			record = JournalRecord.decode(region);
+		}
+		return record;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
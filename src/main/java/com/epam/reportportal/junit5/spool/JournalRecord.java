@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single reporting event stored in a spool journal. On disk every record is laid out as:
+ * <pre>
+ * int    record length, not including this field
+ * byte   record type
+ * short  UUID length, UTF-8 UUID bytes
+ * short  parent UUID length, UTF-8 parent UUID bytes
+ * int    payload length, payload bytes
+ * </pre>
+ * Zero record length marks the end of the journal.
+ */
+public class JournalRecord {
+
+	/**
+	 * Types of events journal can contain
+	 */
+	public enum Type {
+		START_LAUNCH,
+		FINISH_LAUNCH,
+		START_ITEM,
+		FINISH_ITEM,
+		LOG,
+		LOG_BATCH
+	}
+
+	private static final byte[] EMPTY = new byte[0];
+	private static final Type[] TYPES = Type.values();
+
+	private final Type type;
+	private final String uuid;
+	private final String parentUuid;
+	private final byte[] payload;
+
+	public JournalRecord(@Nonnull Type type, @Nullable String uuid, @Nullable String parentUuid, @Nonnull byte[] payload) {
+		this.type = type;
+		this.uuid = uuid;
+		this.parentUuid = parentUuid;
+		this.payload = payload;
+	}
+
+	@Nonnull
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return UUID of a launch or an item the record belongs to, <code>null</code> for log records
+	 */
+	@Nullable
+	public String getUuid() {
+		return uuid;
+	}
+
+	/**
+	 * @return parent item UUID of a {@link Type#START_ITEM} record, <code>null</code> for root items and other records
+	 */
+	@Nullable
+	public String getParentUuid() {
+		return parentUuid;
+	}
+
+	@Nonnull
+	public byte[] getPayload() {
+		return payload;
+	}
+
+	private static byte[] toBytes(@Nullable String value) {
+		return value == null ? EMPTY : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Nullable
+	private static String readString(@Nonnull ByteBuffer buffer) {
+		int length = buffer.getShort();
+		if (length == 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Serializes the record into its on-disk representation
+	 *
+	 * @return record bytes including the length prefix
+	 */
+	@Nonnull
+	public byte[] encode() {
+		byte[] uuidBytes = toBytes(uuid);
+		byte[] parentBytes = toBytes(parentUuid);
+		int length = Byte.BYTES + Short.BYTES + uuidBytes.length + Short.BYTES + parentBytes.length + Integer.BYTES + payload.length;
+		ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + length);
+		buffer.putInt(length);
+		buffer.put((byte) type.ordinal());
+		buffer.putShort((short) uuidBytes.length).put(uuidBytes);
+		buffer.putShort((short) parentBytes.length).put(parentBytes);
+		buffer.putInt(payload.length).put(payload);
+		return buffer.array();
+	}
+
+	/**
+	 * Reads a record at the current buffer position and moves the position to the next record
+	 *
+	 * @param buffer journal content
+	 * @return the record or <code>null</code> if the end of the journal is reached
+	 */
+	@Nullable
+	public static JournalRecord decode(@Nonnull ByteBuffer buffer) {
+		if (buffer.remaining() < Integer.BYTES) {
+			return null;
+		}
+		int start = buffer.position();
+		int length = buffer.getInt();
+		if (length <= 0 || length > buffer.remaining()) {
+			// Unwritten tail of the last mapped region, or a record which was cut by a crash
+			buffer.position(start);
+			return null;
+		}
+		Type type = TYPES[buffer.get()];
+		String uuid = readString(buffer);
+		String parentUuid = readString(buffer);
+		byte[] payload = new byte[buffer.getInt()];
+		buffer.get(payload);
+		return new JournalRecord(type, uuid, parentUuid, payload);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * {@link ReportPortalClient} which doesn't send anything over the network, but appends every request to a spool journal instead.
+ * Launch, item and log UUIDs are generated locally and set to the requests, so the journal can be uploaded later preserving the
+ * report structure.
+ */
+public class JournalReportPortalClient implements ReportPortalClient, Closeable {
+
+	/**
+	 * Spool journal file extension
+	 */
+	public static final String JOURNAL_EXTENSION = ".journal";
+
+	static final ObjectMapper MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private final JournalWriter writer;
+
+	public JournalReportPortalClient(@Nonnull JournalWriter writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * Creates a client writing to a new journal file in the specified directory, every JVM should have its own journal
+	 *
+	 * @param directory spool directory, created if it doesn't exist
+	 * @return the client
+	 * @throws IOException if the directory or the journal can't be created
+	 */
+	@Nonnull
+	public static JournalReportPortalClient create(@Nonnull Path directory) throws IOException {
+		Files.createDirectories(directory);
+		Path journal = directory.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID() + JOURNAL_EXTENSION);
+		return new JournalReportPortalClient(new JournalWriter(journal));
+	}
+
+	@Nonnull
+	private static String uuid(@Nullable String uuid) {
+		return ofNullable(uuid).orElseGet(() -> UUID.randomUUID().toString());
+	}
+
+	private void append(@Nonnull JournalRecord.Type type, @Nullable String uuid, @Nullable String parentUuid, @Nonnull Object rq)
+			throws IOException {
+		writer.append(new JournalRecord(type, uuid, parentUuid, MAPPER.writeValueAsBytes(rq)));
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return Maybe.fromCallable(() -> {
+			String uuid = uuid(rq.getUuid());
+			rq.setUuid(uuid);
+			append(JournalRecord.Type.START_LAUNCH, uuid, null, rq);
+			return new StartLaunchRS(uuid, 0L);
+		});
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchUuid, UpdateLaunchRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		return Maybe.fromCallable(() -> {
+			append(JournalRecord.Type.FINISH_LAUNCH, launch, null, rq);
+			writer.flush();
+			return new OperationCompletionRS("Launch " + launch + " is spooled");
+		});
+	}
+
+	private Maybe<ItemCreatedRS> startItem(@Nullable String parent, @Nonnull StartTestItemRQ rq) {
+		return Maybe.fromCallable(() -> {
+			String uuid = uuid(rq.getUuid());
+			rq.setUuid(uuid);
+			append(JournalRecord.Type.START_ITEM, uuid, parent, rq);
+			return new ItemCreatedRS(uuid, uuid);
+		});
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return startItem(null, rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		return startItem(parent, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		return Maybe.fromCallable(() -> {
+			append(JournalRecord.Type.FINISH_ITEM, itemId, null, rq);
+			return new OperationCompletionRS("Item " + itemId + " is spooled");
+		});
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return Maybe.fromCallable(() -> {
+			String uuid = uuid(rq.getUuid());
+			rq.setUuid(uuid);
+			append(JournalRecord.Type.LOG, uuid, null, rq);
+			return new EntryCreatedAsyncRS(uuid);
+		});
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> rq) {
+		return Maybe.fromCallable(() -> {
+			writer.append(new JournalRecord(JournalRecord.Type.LOG_BATCH, null, null, MultipartCodec.encode(rq)));
+			return new BatchSaveOperatingRS();
+		});
+	}
+
+	/**
+	 * Secondary launches of the same run wait for the primary launch to appear on the server, spooled launches are considered existing
+	 */
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String uuid) {
+		LaunchResource launch = new LaunchResource();
+		launch.setUuid(uuid);
+		return Maybe.just(launch);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String uuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return Maybe.empty();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit5.spool.JournalReportPortalClient.MAPPER;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Uploads spool journals written by {@link JournalReportPortalClient} to ReportPortal. The upload goes in phases: launches are started
+ * first, then independent item subtrees are uploaded in parallel, then logs are re-batched and sent in parallel, and launches are
+ * finished last. Every uploaded entry is saved to {@link UploadProgress}, so a repeated upload skips them.
+ * <p>
+ * Usage: <code>java com.epam.reportportal.junit5.spool.JournalUploader [--threads N] [--progress file] journal-or-directory...</code>,
+ * ReportPortal connection is configured with <code>reportportal.properties</code> file as usual.
+ */
+public class JournalUploader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalUploader.class);
+
+	/**
+	 * Default progress file name, it's created next to the journals
+	 */
+	public static final String PROGRESS_FILE = "upload.progress";
+
+	private static final class Item {
+		private final String uuid;
+		private final String parentUuid;
+		private final StartTestItemRQ startRq;
+		private final List<Item> children = new ArrayList<>();
+		private FinishTestItemRQ finishRq;
+
+		private Item(@Nonnull String uuid, @Nullable String parentUuid, @Nonnull StartTestItemRQ startRq) {
+			this.uuid = uuid;
+			this.parentUuid = parentUuid;
+			this.startRq = startRq;
+		}
+	}
+
+	private static final class LogBatch {
+		private final List<SaveLogRQ> logs = new ArrayList<>();
+		private final List<String> keys = new ArrayList<>();
+		private long size;
+	}
+
+	private final ReportPortalClient client;
+	private final ExecutorService executor;
+	private final int batchSize;
+	private final long batchPayloadLimit;
+	private final Semaphore pendingBatches;
+
+	/**
+	 * @param client            client to upload with
+	 * @param executor          executor to run uploads in parallel, its threads are blocked while waiting for responses
+	 * @param batchSize         maximum number of logs in one request
+	 * @param batchPayloadLimit maximum size of one log request in bytes
+	 * @param parallelism       maximum number of log requests read from journals and waiting for sending
+	 */
+	public JournalUploader(@Nonnull ReportPortalClient client, @Nonnull ExecutorService executor, int batchSize, long batchPayloadLimit,
+			int parallelism) {
+		this.client = client;
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.batchPayloadLimit = batchPayloadLimit;
+		pendingBatches = new Semaphore(parallelism * 2);
+	}
+
+	private static String key(@Nonnull String action, @Nonnull String uuid) {
+		return action + ":" + uuid;
+	}
+
+	/**
+	 * Uploads journals
+	 *
+	 * @param journals journal files, of one or several JVMs of the same run
+	 * @param progress already uploaded entries
+	 * @throws IOException if a journal can't be read
+	 */
+	public void upload(@Nonnull List<Path> journals, @Nonnull UploadProgress progress) throws IOException {
+		Map<String, StartLaunchRQ> launchStarts = new LinkedHashMap<>();
+		Map<String, FinishExecutionRQ> launchFinishes = new LinkedHashMap<>();
+		Map<String, Item> items = new LinkedHashMap<>();
+		for (Path journal : journals) {
+			try (JournalReader reader = new JournalReader(journal)) {
+				JournalRecord record;
+				while ((record = reader.next()) != null) {
+					String uuid = record.getUuid();
+					switch (record.getType()) {
+						case START_LAUNCH:
+							launchStarts.put(uuid, MAPPER.readValue(record.getPayload(), StartLaunchRQ.class));
+							break;
+						case FINISH_LAUNCH:
+							launchFinishes.put(uuid, MAPPER.readValue(record.getPayload(), FinishExecutionRQ.class));
+							break;
+						case START_ITEM:
+							items.put(uuid, new Item(uuid, record.getParentUuid(), MAPPER.readValue(record.getPayload(), StartTestItemRQ.class)));
+							break;
+						case FINISH_ITEM:
+							Item item = items.get(uuid);
+							if (item == null) {
+								LOGGER.warn("Finish of an item without start is skipped: {}", uuid);
+							} else {
+								item.finishRq = MAPPER.readValue(record.getPayload(), FinishTestItemRQ.class);
+							}
+							break;
+						default:
+					}
+				}
+			}
+		}
+
+		for (Map.Entry<String, StartLaunchRQ> launch : launchStarts.entrySet()) {
+			String key = key("start-launch", launch.getKey());
+			if (!progress.isDone(key)) {
+				client.startLaunch(launch.getValue()).blockingGet();
+				progress.done(key);
+			}
+		}
+
+		// Items whose parents are absent in the journals were started under an existing item, e.g. by a previous upload
+		List<Item> roots = new ArrayList<>();
+		items.values().forEach(i -> {
+			Item parent = i.parentUuid == null ? null : items.get(i.parentUuid);
+			if (parent == null) {
+				roots.add(i);
+			} else {
+				parent.children.add(i);
+			}
+		});
+		join(roots.stream().map(i -> upload(i, progress)).collect(Collectors.toList()));
+		LOGGER.info("{} items uploaded", items.size());
+
+		List<CompletableFuture<Void>> logs = new ArrayList<>();
+		for (Path journal : journals) {
+			uploadLogs(journal, progress, logs);
+		}
+		join(logs);
+		LOGGER.info("{} log requests uploaded", logs.size());
+
+		for (Map.Entry<String, FinishExecutionRQ> launch : launchFinishes.entrySet()) {
+			String key = key("finish-launch", launch.getKey());
+			if (!progress.isDone(key)) {
+				client.finishLaunch(launch.getKey(), launch.getValue()).blockingGet();
+				progress.done(key);
+			}
+		}
+	}
+
+	private static void join(@Nonnull List<CompletableFuture<Void>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			throw new IllegalStateException("Unable to upload journal", e.getCause());
+		}
+	}
+
+	@Nonnull
+	private CompletableFuture<Void> upload(@Nonnull Item item, @Nonnull UploadProgress progress) {
+		return CompletableFuture.runAsync(() -> {
+			String key = key("start-item", item.uuid);
+			if (!progress.isDone(key)) {
+				if (item.parentUuid == null) {
+					client.startTestItem(item.startRq).blockingGet();
+				} else {
+					client.startTestItem(item.parentUuid, item.startRq).blockingGet();
+				}
+				progress.done(key);
+			}
+		}, executor).thenCompose(v -> CompletableFuture.allOf(item.children.stream()
+				.map(c -> upload(c, progress))
+				.toArray(CompletableFuture[]::new))).thenRunAsync(() -> {
+			String key = key("finish-item", item.uuid);
+			if (item.finishRq != null && !progress.isDone(key)) {
+				client.finishTestItem(item.uuid, item.finishRq).blockingGet();
+				progress.done(key);
+			}
+		}, executor);
+	}
+
+	private void uploadLogs(@Nonnull Path journal, @Nonnull UploadProgress progress, @Nonnull List<CompletableFuture<Void>> futures)
+			throws IOException {
+		LogBatch batch = new LogBatch();
+		try (JournalReader reader = new JournalReader(journal)) {
+			long position = reader.getPosition();
+			JournalRecord record;
+			while ((record = reader.next()) != null) {
+				String key = key("log", journal.getFileName() + "@" + position);
+				position = reader.getPosition();
+				List<SaveLogRQ> logs;
+				if (record.getType() == JournalRecord.Type.LOG) {
+					logs = Collections.singletonList(MAPPER.readValue(record.getPayload(), SaveLogRQ.class));
+				} else if (record.getType() == JournalRecord.Type.LOG_BATCH) {
+					logs = MultipartCodec.decodeLogs(record.getPayload());
+				} else {
+					continue;
+				}
+				if (progress.isDone(key)) {
+					continue;
+				}
+				long size = logs.stream().mapToLong(HttpRequestUtils::calculateRequestSize).sum();
+				if (!batch.logs.isEmpty() && (batch.logs.size() + logs.size() > batchSize || batch.size + size > batchPayloadLimit)) {
+					futures.add(send(batch, progress));
+					batch = new LogBatch();
+				}
+				batch.logs.addAll(logs);
+				batch.keys.add(key);
+				batch.size += size;
+			}
+		}
+		if (!batch.logs.isEmpty()) {
+			futures.add(send(batch, progress));
+		}
+	}
+
+	@Nonnull
+	private CompletableFuture<Void> send(@Nonnull LogBatch batch, @Nonnull UploadProgress progress) {
+		pendingBatches.acquireUninterruptibly();
+		return CompletableFuture.runAsync(() -> {
+			client.log(HttpRequestUtils.buildLogMultiPartRequest(batch.logs)).blockingGet();
+			batch.keys.forEach(progress::done);
+		}, executor).whenComplete((v, e) -> pendingBatches.release());
+	}
+
+	@Nonnull
+	private static List<Path> findJournals(@Nonnull List<Path> paths) throws IOException {
+		List<Path> journals = new ArrayList<>();
+		for (Path path : paths) {
+			if (Files.isDirectory(path)) {
+				try (Stream<Path> files = Files.list(path)) {
+					files.filter(f -> f.getFileName().toString().endsWith(JournalReportPortalClient.JOURNAL_EXTENSION))
+							.sorted()
+							.forEach(journals::add);
+				}
+			} else {
+				journals.add(path);
+			}
+		}
+		return journals;
+	}
+
+	public static void main(String[] args) throws IOException {
+		int threads = Runtime.getRuntime().availableProcessors() * 2;
+		Path progressFile = null;
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			if ("--threads".equals(args[i]) && i + 1 < args.length) {
+				threads = Integer.parseInt(args[++i]);
+			} else if ("--progress".equals(args[i]) && i + 1 < args.length) {
+				progressFile = Paths.get(args[++i]);
+			} else {
+				paths.add(Paths.get(args[i]));
+			}
+		}
+		List<Path> journals = findJournals(paths);
+		if (journals.isEmpty()) {
+			System.err.println("Usage: JournalUploader [--threads N] [--progress file] journal-or-directory...");
+			System.exit(2);
+		}
+		Path journalDirectory = ofNullable(journals.get(0).toAbsolutePath().getParent()).orElse(Paths.get("."));
+		progressFile = ofNullable(progressFile).orElseGet(() -> journalDirectory.resolve(PROGRESS_FILE));
+
+		ReportPortal reportPortal = ReportPortal.builder().build();
+		ListenerParameters parameters = reportPortal.getParameters();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		int status = 0;
+		try (UploadProgress progress = new UploadProgress(progressFile)) {
+			new JournalUploader(reportPortal.getClient(),
+					executor,
+					parameters.getBatchLogsSize(),
+					parameters.getBatchPayloadLimit(),
+					threads
+			).upload(journals, progress);
+		} catch (RuntimeException e) {
+			LOGGER.error("Upload is interrupted, run the uploader again to continue", e);
+			status = 1;
+		} finally {
+			executor.shutdown();
+		}
+		System.exit(status);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only spool journal writer. The journal file is memory-mapped in regions of {@link #REGION_SIZE} bytes, so appending a record
+ * is a memory copy and doesn't need a system call. The data is flushed to the disk by the OS, or explicitly with {@link #flush()}.
+ */
+public class JournalWriter implements Closeable {
+
+	static final int REGION_SIZE = 4 * 1024 * 1024;
+
+	private final FileChannel channel;
+	private long regionStart;
+	private MappedByteBuffer region;
+	private boolean closed;
+
+	/**
+	 * Opens a journal file for writing, new records are appended after existing ones if the file is not empty
+	 *
+	 * @param path journal file path
+	 * @throws IOException if the file can't be opened or mapped
+	 */
+	public JournalWriter(@Nonnull Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		regionStart = findEnd(channel);
+		region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, REGION_SIZE);
+	}
+
+	private static long findEnd(@Nonnull FileChannel channel) throws IOException {
+		long size = channel.size();
+		ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+		long position = 0;
+		while (position + Integer.BYTES <= size) {
+			length.clear();
+			channel.read(length, position);
+			length.flip();
+			int recordLength = length.getInt();
+			if (recordLength <= 0 || position + Integer.BYTES + recordLength > size) {
+				break;
+			}
+			position += Integer.BYTES + recordLength;
+		}
+		return position;
+	}
+
+	/**
+	 * Appends a record to the journal
+	 *
+	 * @param record a record to append
+	 * @throws IOException if the journal is closed or a new region can't be mapped
+	 */
+	public synchronized void append(@Nonnull JournalRecord record) throws IOException {
+		if (closed) {
+			throw new IOException("Journal is closed");
+		}
+		byte[] bytes = record.encode();
+		if (region.remaining() < bytes.length) {
+			regionStart += region.position();
+			region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, Math.max(REGION_SIZE, bytes.length));
+		}
+		// Record length goes last, so a reader never sees a partially copied record
+		int position = region.position();
+		region.position(position + Integer.BYTES);
+		region.put(bytes, Integer.BYTES, bytes.length - Integer.BYTES);
+		region.putInt(position, bytes.length - Integer.BYTES);
+	}
+
+	/**
+	 * Forces written records to the storage device
+	 */
+	public synchronized void flush() {
+		if (!closed) {
+			region.force();
+		}
+	}
+
+	/**
+	 * @return size of written records in bytes
+	 */
+	public synchronized long size() {
+		return regionStart + region.position();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		region.force();
+		try {
+			channel.truncate(regionStart + region.position());
+		} catch (IOException ignore) {
+			// Some platforms don't allow truncation of mapped files, zero tail of the region is a valid journal end anyway
+		}
+		channel.close();
+	}
+}
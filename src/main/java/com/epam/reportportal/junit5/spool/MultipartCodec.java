@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+
+/**
+ * Converts multipart log batches to bytes and back, so they can be stored in a journal and re-sent as is
+ */
+public class MultipartCodec {
+
+	private static final Pattern FILE_NAME = Pattern.compile("filename=\"([^\"]*)\"");
+	private static final String JSON_PART_NAME = "name=\"json_request_part\"";
+	private static final String CONTENT_DISPOSITION = "Content-Disposition";
+
+	private MultipartCodec() {
+		//static only
+	}
+
+	@Nonnull
+	public static byte[] encode(@Nonnull List<MultipartBody.Part> parts) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(parts.size());
+		for (MultipartBody.Part part : parts) {
+			Headers headers = part.headers();
+			int headerNumber = headers == null ? 0 : headers.size();
+			out.writeInt(headerNumber);
+			for (int i = 0; i < headerNumber; i++) {
+				out.writeUTF(headers.name(i));
+				out.writeUTF(headers.value(i));
+			}
+			RequestBody body = part.body();
+			MediaType contentType = body.contentType();
+			out.writeUTF(contentType == null ? "" : contentType.toString());
+			Buffer content = new Buffer();
+			body.writeTo(content);
+			out.writeInt((int) content.size());
+			out.write(content.readByteArray());
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	@Nonnull
+	public static List<MultipartBody.Part> decode(@Nonnull byte[] payload) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		int partNumber = in.readInt();
+		List<MultipartBody.Part> parts = new ArrayList<>(partNumber);
+		for (int p = 0; p < partNumber; p++) {
+			String[] namesAndValues = new String[in.readInt() * 2];
+			for (int i = 0; i < namesAndValues.length; i++) {
+				namesAndValues[i] = in.readUTF();
+			}
+			String contentType = in.readUTF();
+			byte[] content = new byte[in.readInt()];
+			in.readFully(content);
+			RequestBody body = RequestBody.create(content, contentType.isEmpty() ? null : MediaType.parse(contentType));
+			parts.add(MultipartBody.Part.create(namesAndValues.length > 0 ? Headers.of(namesAndValues) : null, body));
+		}
+		return parts;
+	}
+
+	/**
+	 * Restores log requests from an encoded multipart log batch, file parts are put back to the requests by their names
+	 *
+	 * @param payload encoded multipart batch
+	 * @return log requests of the batch
+	 * @throws IOException if the payload is malformed
+	 */
+	@Nonnull
+	public static List<SaveLogRQ> decodeLogs(@Nonnull byte[] payload) throws IOException {
+		List<SaveLogRQ> logs = new ArrayList<>();
+		Map<String, byte[]> files = new HashMap<>();
+		for (MultipartBody.Part part : decode(payload)) {
+			String disposition = part.headers() == null ? null : part.headers().get(CONTENT_DISPOSITION);
+			Buffer content = new Buffer();
+			part.body().writeTo(content);
+			if (disposition == null || disposition.contains(JSON_PART_NAME)) {
+				logs.addAll(MAPPER.readValue(content.readByteArray(), new TypeReference<List<SaveLogRQ>>() {
+				}));
+				continue;
+			}
+			Matcher matcher = FILE_NAME.matcher(disposition);
+			if (matcher.find()) {
+				files.put(matcher.group(1), content.readByteArray());
+			}
+		}
+		logs.stream().filter(l -> l.getFile() != null).forEach(l -> l.getFile().setContent(files.get(l.getFile().getName())));
+		return logs;
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.spool;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only record of already uploaded journal entries, which lets an interrupted upload continue where it stopped
+ */
+public class UploadProgress implements Closeable {
+
+	private final Set<String> done = ConcurrentHashMap.newKeySet();
+	private final BufferedWriter writer;
+
+	public UploadProgress(@Nonnull Path file) throws IOException {
+		if (Files.exists(file)) {
+			done.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+		}
+		writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		// A line could be cut by the previous interrupted upload
+		writer.newLine();
+	}
+
+	public boolean isDone(@Nonnull String key) {
+		return done.contains(key);
+	}
+
+	public synchronized void done(@Nonnull String key) {
+		if (done.add(key)) {
+			try {
+				writer.write(key);
+				writer.newLine();
+				writer.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		writer.close();
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.status;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import org.opentest4j.TestAbortedException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Default classifier which reports JUnit 5 and JUnit 4 assumption failures as skipped
+ */
+public class AssumptionStatusClassifier implements StatusClassifier {
+
+	private static final Set<String> ASSUMPTION_CLASSES = new HashSet<>(Arrays.asList(TestAbortedException.class.getCanonicalName(),
+			"org.junit.AssumptionViolatedException"
+	));
+
+	private static final StatusClassification SKIPPED = StatusClassification.of(ItemStatus.SKIPPED);
+
+	@Nullable
+	@Override
+	public StatusClassification classify(@Nonnull Class<?> throwableType) {
+		return ASSUMPTION_CLASSES.contains(throwableType.getCanonicalName()) ? SKIPPED : null;
+	}
+}
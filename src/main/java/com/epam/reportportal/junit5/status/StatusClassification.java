@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.status;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Status and an optional issue type which are reported for a test finished with an exception
+ */
+public class StatusClassification {
+
+	private final ItemStatus status;
+	private final String issueType;
+	private final String comment;
+
+	private StatusClassification(@Nonnull ItemStatus status, @Nullable String issueType, @Nullable String comment) {
+		this.status = status;
+		this.issueType = issueType;
+		this.comment = comment;
+	}
+
+	@Nonnull
+	public static StatusClassification of(@Nonnull ItemStatus status) {
+		return new StatusClassification(status, null, null);
+	}
+
+	/**
+	 * @param status    item status
+	 * @param issueType issue type locator, e.g. <code>si001</code> for System Issue, <code>ab001</code> for Automation Bug
+	 * @param comment   issue comment
+	 * @return a classification
+	 */
+	@Nonnull
+	public static StatusClassification of(@Nonnull ItemStatus status, @Nonnull String issueType, @Nullable String comment) {
+		return new StatusClassification(status, issueType, comment);
+	}
+
+	@Nonnull
+	public ItemStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return a new issue instance or <code>null</code> if issue type is not set
+	 */
+	@Nullable
+	public Issue getIssue() {
+		if (issueType == null) {
+			return null;
+		}
+		Issue issue = new Issue();
+		issue.setIssueType(issueType);
+		issue.setComment(comment);
+		return issue;
+	}
+}
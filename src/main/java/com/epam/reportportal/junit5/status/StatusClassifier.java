@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.status;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Service provider interface which maps exception types to test item statuses and issues. Implementations are registered in
+ * <code>META-INF/services/com.epam.reportportal.junit5.status.StatusClassifier</code> file and take precedence over the default
+ * classification, which reports assumption failures as skipped and any other exception as failed.
+ * <p>
+ * A decision is made once per exception class and cached, so it must depend on the class only.
+ */
+public interface StatusClassifier {
+
+	/**
+	 * Classifies an exception type. Superclasses of the thrown exception are passed to the method too, if the exact class is not
+	 * classified.
+	 *
+	 * @param throwableType an exception class or one of its superclasses
+	 * @return a classification or <code>null</code> if the classifier doesn't handle the type
+	 */
+	@Nullable
+	StatusClassification classify(@Nonnull Class<?> throwableType);
+}
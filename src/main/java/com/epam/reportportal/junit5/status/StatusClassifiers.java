@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.status;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Classifies exceptions with registered {@link StatusClassifier}s, followed by {@link AssumptionStatusClassifier}. The result is cached
+ * per exception class, so classification of a repeated exception type is a single lookup.
+ */
+public class StatusClassifiers {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatusClassifiers.class);
+
+	private static final StatusClassification FAILED = StatusClassification.of(ItemStatus.FAILED);
+
+	private static final List<StatusClassifier> CLASSIFIERS = loadClassifiers();
+
+	private static final ClassValue<StatusClassification> CLASSIFICATIONS = new ClassValue<StatusClassification>() {
+		@Override
+		protected StatusClassification computeValue(@Nonnull Class<?> type) {
+			Class<?> clazz = type;
+			do {
+				for (StatusClassifier classifier : CLASSIFIERS) {
+					StatusClassification classification = classifier.classify(clazz);
+					if (classification != null) {
+						return classification;
+					}
+				}
+			} while ((clazz = clazz.getSuperclass()) != null);
+			return FAILED;
+		}
+	};
+
+	private StatusClassifiers() {
+		//static only
+	}
+
+	@Nonnull
+	private static List<StatusClassifier> loadClassifiers() {
+		List<StatusClassifier> classifiers = new ArrayList<>();
+		try {
+			ServiceLoader.load(StatusClassifier.class, StatusClassifiers.class.getClassLoader()).forEach(classifiers::add);
+		} catch (ServiceConfigurationError e) {
+			LOGGER.error("Unable to load status classifiers, default classification is used", e);
+		}
+		classifiers.add(new AssumptionStatusClassifier());
+		return Collections.unmodifiableList(classifiers);
+	}
+
+	/**
+	 * @param throwable an exception thrown by a test
+	 * @return a classification of the exception
+	 */
+	@Nonnull
+	public static StatusClassification classify(@Nonnull Throwable throwable) {
+		return CLASSIFICATIONS.get(throwable.getClass());
+	}
+}
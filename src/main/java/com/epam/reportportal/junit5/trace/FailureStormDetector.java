@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects failure storms: a storm starts when the given number of failures with the same root cause fingerprint happen within a time
+ * window, e.g. when a service which many tests depend on goes down. Once started a storm lasts till the detector is reset.
+ */
+public class FailureStormDetector {
+
+	/**
+	 * A kind of failure occurrence
+	 */
+	public enum Occurrence {
+		/**
+		 * The failure is not a part of a storm
+		 */
+		REGULAR,
+		/**
+		 * The failure started a storm
+		 */
+		STORM_STARTED,
+		/**
+		 * The failure is a part of an already started storm
+		 */
+		STORM
+	}
+
+	/**
+	 * Failures of a cluster: failures with the same root cause fingerprint
+	 */
+	public static class Cluster {
+		private final String description;
+		private final long[] times;
+		private int next;
+		private int filled;
+		private int count;
+		private boolean storm;
+
+		private Cluster(@Nonnull String description, int threshold) {
+			this.description = description;
+			this.times = new long[threshold];
+		}
+
+		/**
+		 * @return a description of the first failure in the cluster
+		 */
+		@Nonnull
+		public String getDescription() {
+			return description;
+		}
+
+		/**
+		 * @return number of failures in the cluster
+		 */
+		public synchronized int getCount() {
+			return count;
+		}
+
+		private synchronized Occurrence register(long time, long window) {
+			count++;
+			if (storm) {
+				return Occurrence.STORM;
+			}
+			times[next] = time;
+			next = (next + 1) % times.length;
+			filled = Math.min(filled + 1, times.length);
+			// the oldest of the last "threshold" failures is the next one to overwrite
+			if (filled == times.length && time - times[next] <= window) {
+				storm = true;
+				return Occurrence.STORM_STARTED;
+			}
+			return Occurrence.REGULAR;
+		}
+	}
+
+	private final int threshold;
+	private final long window;
+	private final Map<String, Cluster> clusters = new ConcurrentHashMap<>();
+
+	/**
+	 * @param threshold    number of failures with the same fingerprint which start a storm, non-positive value disables detection
+	 * @param windowMillis time window in milliseconds within which the failures should happen
+	 */
+	public FailureStormDetector(int threshold, long windowMillis) {
+		this.threshold = threshold;
+		this.window = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+	}
+
+	/**
+	 * Registers a failure
+	 *
+	 * @param fingerprint root cause fingerprint of the failure
+	 * @param description a description of the failure, e.g. the exception headline
+	 * @return the failure occurrence kind
+	 */
+	@Nonnull
+	public Occurrence register(@Nonnull String fingerprint, @Nonnull String description) {
+		if (threshold <= 0) {
+			return Occurrence.REGULAR;
+		}
+		return clusters.computeIfAbsent(fingerprint, k -> new Cluster(description, threshold)).register(System.nanoTime(), window);
+	}
+
+	/**
+	 * @return clusters which caused storms by their fingerprints
+	 */
+	@Nonnull
+	public Map<String, Cluster> getStorms() {
+		Map<String, Cluster> result = new LinkedHashMap<>();
+		clusters.forEach((fingerprint, cluster) -> {
+			synchronized (cluster) {
+				if (cluster.storm) {
+					result.put(fingerprint, cluster);
+				}
+			}
+		});
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Forgets all registered failures and storms
+	 */
+	public void reset() {
+		clusters.clear();
+	}
+}
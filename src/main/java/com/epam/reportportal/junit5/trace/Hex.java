@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Lower case hexadecimal encoding. Java 17+ runtimes use a version of this class from <code>META-INF/versions/17</code> which
+ * delegates to <code>java.util.HexFormat</code>.
+ */
+final class Hex {
+
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+	private Hex() {
+	}
+
+	/**
+	 * @param bytes  bytes to encode
+	 * @param length number of leading bytes to encode
+	 * @return hexadecimal string of <code>length * 2</code> characters
+	 */
+	@Nonnull
+	static String encode(@Nonnull byte[] bytes, int length) {
+		char[] result = new char[length * 2];
+		for (int i = 0; i < length; i++) {
+			result[i * 2] = DIGITS[(bytes[i] >> 4) & 0xF];
+			result[i * 2 + 1] = DIGITS[bytes[i] & 0xF];
+		}
+		return new String(result);
+	}
+}
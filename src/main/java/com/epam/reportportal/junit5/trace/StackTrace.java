@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A formatted stack trace of an exception
+ */
+public class StackTrace {
+
+	private final String headline;
+	private final String text;
+	private final String fingerprint;
+	private final String rootCauseFingerprint;
+
+	StackTrace(@Nonnull String headline, @Nonnull String text, @Nonnull String fingerprint, @Nonnull String rootCauseFingerprint) {
+		this.headline = headline;
+		this.text = text;
+		this.fingerprint = fingerprint;
+		this.rootCauseFingerprint = rootCauseFingerprint;
+	}
+
+	/**
+	 * @return the exception description and its top frame
+	 */
+	@Nonnull
+	public String getHeadline() {
+		return headline;
+	}
+
+	/**
+	 * @return full stack trace text with filtered frames
+	 */
+	@Nonnull
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @return a hash of exception types and stack frames of the trace, exception messages are not taken into account
+	 */
+	@Nonnull
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * @return a hash of the root cause type and its top frames, it's the same for failures caused by the same problem in different
+	 * tests, e.g. an unavailable service
+	 */
+	@Nonnull
+	public String getRootCauseFingerprint() {
+		return rootCauseFingerprint;
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Formats exception stack traces the same way as {@link Throwable#printStackTrace()} does, but skips frames of test frameworks, build
+ * tools and reflection, limits the number of frames per exception and the number of nested (caused by and suppressed) exceptions.
+ */
+public class StackTraceFormatter {
+
+	/**
+	 * Class name prefixes of frames which are filtered by default
+	 */
+	public static final List<String> DEFAULT_FILTERED_PACKAGES = Collections.unmodifiableList(Arrays.asList(
+			"org.junit.",
+			"junit.",
+			"sun.reflect.",
+			"jdk.internal.",
+			"java.lang.reflect.",
+			"com.sun.proxy.",
+			"jdk.proxy",
+			"org.gradle.",
+			"worker.org.gradle.",
+			"org.apache.maven.surefire.",
+			"com.intellij.",
+			"org.eclipse.jdt.internal.junit",
+			"org.aspectj.",
+			"com.epam.reportportal.junit5.ReportPortalExtension"
+	));
+
+	private static final String CAUSE_CAPTION = "Caused by: ";
+	private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+	private static final int FINGERPRINT_LENGTH = 16;
+	private static final int ROOT_CAUSE_FRAMES = 3;
+
+	private final List<String> filteredPackages;
+	private final int maxFrames;
+	private final int maxNested;
+
+	/**
+	 * @param filteredPackages class name prefixes of frames to filter
+	 * @param maxFrames        maximum number of frames printed per exception, non-positive value means no limit
+	 * @param maxNested        maximum number of printed caused by and suppressed exceptions, negative value means no limit
+	 */
+	public StackTraceFormatter(@Nonnull Collection<String> filteredPackages, int maxFrames, int maxNested) {
+		this.filteredPackages = new ArrayList<>(filteredPackages);
+		this.maxFrames = maxFrames > 0 ? maxFrames : Integer.MAX_VALUE;
+		this.maxNested = maxNested >= 0 ? maxNested : Integer.MAX_VALUE;
+	}
+
+	private final class Printer {
+		private final StringBuilder text = new StringBuilder();
+		private final StringBuilder signature = new StringBuilder();
+		private final Set<Throwable> printed = Collections.newSetFromMap(new IdentityHashMap<>());
+		private int nested;
+
+		private void print(@Nonnull Throwable throwable, @Nonnull StackTraceElement[] enclosingTrace, @Nonnull String caption,
+				@Nonnull String prefix) {
+			if (!printed.add(throwable)) {
+				text.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append("]\n");
+				return;
+			}
+			StackTraceElement[] trace = throwable.getStackTrace();
+			int last = trace.length - 1;
+			for (int i = enclosingTrace.length - 1; last >= 0 && i >= 0 && trace[last].equals(enclosingTrace[i]); i--) {
+				last--;
+			}
+			int common = trace.length - 1 - last;
+
+			text.append(prefix).append(caption).append(throwable).append('\n');
+			signature.append(caption).append(throwable.getClass().getName()).append('\n');
+			int frames = 0;
+			int filtered = 0;
+			for (int i = 0; i <= last; i++) {
+				StackTraceElement frame = trace[i];
+				// the top frame is always kept to show where the exception was thrown
+				if (i > 0 && isFiltered(frame)) {
+					filtered++;
+					continue;
+				}
+				if (frames >= maxFrames) {
+					appendFiltered(prefix, filtered);
+					text.append(prefix).append("\t... ").append(last + 1 - i).append(" more frames truncated\n");
+					filtered = 0;
+					break;
+				}
+				appendFiltered(prefix, filtered);
+				filtered = 0;
+				text.append(prefix).append("\tat ").append(frame).append('\n');
+				appendSignature(signature, frame);
+				frames++;
+			}
+			appendFiltered(prefix, filtered);
+			if (common > 0) {
+				text.append(prefix).append("\t... ").append(common).append(" more\n");
+			}
+
+			for (Throwable suppressed : throwable.getSuppressed()) {
+				printNested(suppressed, trace, SUPPRESSED_CAPTION, prefix + "\t");
+			}
+			Throwable cause = throwable.getCause();
+			if (cause != null) {
+				printNested(cause, trace, CAUSE_CAPTION, prefix);
+			}
+		}
+
+		private void printNested(@Nonnull Throwable throwable, @Nonnull StackTraceElement[] enclosingTrace, @Nonnull String caption,
+				@Nonnull String prefix) {
+			if (nested >= maxNested) {
+				if (nested++ == maxNested) {
+					text.append(prefix).append("\t... more nested exceptions truncated\n");
+				}
+				return;
+			}
+			nested++;
+			print(throwable, enclosingTrace, caption, prefix);
+		}
+
+		private void appendFiltered(@Nonnull String prefix, int filtered) {
+			if (filtered > 0) {
+				text.append(prefix).append("\t... ").append(filtered).append(" framework frames filtered\n");
+			}
+		}
+	}
+
+	private boolean isFiltered(@Nonnull StackTraceElement frame) {
+		String className = frame.getClassName();
+		for (String filteredPackage : filteredPackages) {
+			if (className.startsWith(filteredPackage)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Nonnull
+	private static String hash(@Nonnull CharSequence signature) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+		}
+		byte[] bytes = digest.digest(signature.toString().getBytes(StandardCharsets.UTF_8));
+		return Hex.encode(bytes, FINGERPRINT_LENGTH / 2);
+	}
+
+	private static void appendSignature(@Nonnull StringBuilder signature, @Nonnull StackTraceElement frame) {
+		signature.append(frame.getClassName())
+				.append('.')
+				.append(frame.getMethodName())
+				.append(':')
+				.append(frame.getLineNumber())
+				.append('\n');
+	}
+
+	@Nonnull
+	private String rootCauseSignature(@Nonnull Throwable throwable) {
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Throwable root = throwable;
+		while (root.getCause() != null && visited.add(root)) {
+			root = root.getCause();
+		}
+		StringBuilder signature = new StringBuilder(root.getClass().getName()).append('\n');
+		StackTraceElement[] trace = root.getStackTrace();
+		int frames = 0;
+		for (int i = 0; i < trace.length && frames < ROOT_CAUSE_FRAMES; i++) {
+			StackTraceElement frame = trace[i];
+			if (i > 0 && isFiltered(frame)) {
+				continue;
+			}
+			appendSignature(signature, frame);
+			frames++;
+		}
+		return signature.toString();
+	}
+
+	/**
+	 * Formats a stack trace of the exception
+	 *
+	 * @param throwable an exception to format
+	 * @return formatted stack trace
+	 */
+	@Nonnull
+	public StackTrace format(@Nonnull Throwable throwable) {
+		Printer printer = new Printer();
+		printer.print(throwable, new StackTraceElement[0], "", "");
+		StringBuilder text = printer.text;
+		text.setLength(text.length() - 1); // trailing line break
+		StackTraceElement[] trace = throwable.getStackTrace();
+		String headline = trace.length > 0 ? throwable + "\n\tat " + trace[0] : throwable.toString();
+		return new StackTrace(headline, text.toString(), hash(printer.signature), hash(rootCauseSignature(throwable)));
+	}
+}
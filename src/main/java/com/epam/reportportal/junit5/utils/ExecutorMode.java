@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Kind of threads which run reporting I/O
+ */
+public enum ExecutorMode {
+	/**
+	 * A fixed pool of platform threads
+	 */
+	PLATFORM,
+	/**
+	 * A new virtual thread per task, so blocked requests don't hold OS threads. Requires Java 21+, other runtimes fall back to
+	 * {@link #PLATFORM} mode.
+	 */
+	VIRTUAL;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorMode.class);
+
+	/**
+	 * @param value a mode name, case-insensitive
+	 * @return the mode, {@link #PLATFORM} if the value is not set or unknown
+	 */
+	@Nonnull
+	public static ExecutorMode of(@Nullable String value) {
+		if (value == null) {
+			return PLATFORM;
+		}
+		return Arrays.stream(values()).filter(m -> m.name().equalsIgnoreCase(value)).findAny().orElseGet(() -> {
+			LOGGER.warn("Unknown reporting executor mode '{}', '{}' mode is used", value, PLATFORM.name().toLowerCase());
+			return PLATFORM;
+		});
+	}
+
+	/**
+	 * Creates an executor for the mode, falls back to platform threads if the runtime doesn't support the mode
+	 *
+	 * @param platformThreads number of threads in {@link #PLATFORM} mode
+	 * @return an executor
+	 */
+	@Nonnull
+	public ExecutorService newExecutor(int platformThreads) {
+		if (this == VIRTUAL) {
+			if (ReportingExecutors.isVirtualThreadSupported()) {
+				return ReportingExecutors.newVirtualThreadExecutor();
+			}
+			LOGGER.warn("Virtual threads are not supported by Java {}, platform threads are used for reporting",
+					System.getProperty("java.version")
+			);
+		}
+		return ReportingExecutors.newPlatformThreadExecutor(platformThreads);
+	}
+}
@@ -21,6 +21,11 @@ import io.reactivex.annotations.Nullable;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Util class for creating {@link com.epam.reportportal.service.tree.TestItemTree.ItemTreeKey} objects from JUnit5 test-related entities.
  * {@link com.epam.reportportal.service.tree.TestItemTree.ItemTreeKey} is required for accessing {@link TestItemTree} entries which
@@ -68,4 +73,30 @@ public class ItemTreeUtils {
 	public static TestItemTree.TestItemLeaf retrieveLeaf(TestInfo testInfo, TestItemTree testItemTree) {
 		return retrieveLeaf(testInfo.getDisplayName(), testItemTree);
 	}
+
+	/**
+	 * Retrieves a leaf by unique IDs of the context and its parents, walking down from the tree root through child items. Unlike
+	 * retrieval by name it distinguishes items with the same display name, e.g. parameterized test invocations.
+	 *
+	 * @param extensionContext JUnit's test context
+	 * @param testItemTree     a tree to look up
+	 * @return the context's leaf or <code>null</code> if there is no such leaf
+	 */
+	@Nullable
+	public static TestItemTree.TestItemLeaf retrieveLeaf(ExtensionContext extensionContext, TestItemTree testItemTree) {
+		Deque<ExtensionContext> contexts = new ArrayDeque<>();
+		for (Optional<ExtensionContext> c = Optional.of(extensionContext); c.isPresent(); c = c.get().getParent()) {
+			contexts.push(c.get());
+		}
+		Map<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> items = testItemTree.getTestItems();
+		TestItemTree.TestItemLeaf leaf = null;
+		for (ExtensionContext context : contexts) {
+			// not every context is reported as an item, e.g. engine's one, such contexts are skipped
+			leaf = items.get(createItemTreeKey(context.getUniqueId()));
+			if (leaf != null) {
+				items = leaf.getChildItems();
+			}
+		}
+		return leaf;
+	}
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates executors for reporting I/O. Java 21+ runtimes use a version of this class from <code>META-INF/versions/21</code> which
+ * supports virtual threads.
+ */
+public final class ReportingExecutors {
+
+	private static final String THREAD_PREFIX = "rp-io-";
+
+	private ReportingExecutors() {
+	}
+
+	/**
+	 * @return <code>true</code> if the runtime supports virtual threads
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return false;
+	}
+
+	/**
+	 * Creates a fixed pool of daemon platform threads, the same as ReportPortal client uses by default
+	 *
+	 * @param threads number of threads
+	 * @return an executor
+	 */
+	@Nonnull
+	public static ExecutorService newPlatformThreadExecutor(int threads) {
+		AtomicLong counter = new AtomicLong();
+		return Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r);
+			thread.setDaemon(true);
+			thread.setName(THREAD_PREFIX + counter.incrementAndGet());
+			return thread;
+		});
+	}
+
+	/**
+	 * Creates an executor which runs every task on a new virtual thread, use {@link ExecutorMode#VIRTUAL} which falls back to platform
+	 * threads on older runtimes
+	 *
+	 * @return an executor
+	 * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+	 */
+	@Nonnull
+	static ExecutorService newVirtualThreadExecutor() {
+		throw new UnsupportedOperationException("Virtual threads are supported on Java 21 and later");
+	}
+}
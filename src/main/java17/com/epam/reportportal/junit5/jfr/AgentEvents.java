@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.jfr;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Java Flight Recorder events of the agent, Java 17+ version. An event instance is created only to check whether the event is
+ * recorded; JIT eliminates the allocation when it's not.
+ */
+public final class AgentEvents {
+
+	private AgentEvents() {
+	}
+
+	/**
+	 * @return whether the runtime supports agent events
+	 */
+	public static boolean isSupported() {
+		return true;
+	}
+
+	/**
+	 * Begins an extension callback event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginCallback() {
+		CallbackEvent event = new CallbackEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Commits an extension callback event
+	 *
+	 * @param event    an event returned by {@link #beginCallback()}
+	 * @param callback the callback name
+	 * @param uniqueId a unique ID of the callback context
+	 */
+	public static void commitCallback(@Nullable AgentEvent event, @Nonnull String callback, @Nonnull String uniqueId) {
+		if (event instanceof CallbackEvent callbackEvent && callbackEvent.shouldCommit()) {
+			callbackEvent.callback = callback;
+			callbackEvent.uniqueId = uniqueId;
+			callbackEvent.commit();
+		}
+	}
+
+	/**
+	 * Begins a test item start event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginItemStart() {
+		ItemStartEvent event = new ItemStartEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Commits a test item start event
+	 *
+	 * @param event    an event returned by {@link #beginItemStart()}
+	 * @param uniqueId a unique ID of the item context
+	 * @param itemType the item type
+	 * @param codeRef  the item code reference
+	 */
+	public static void commitItemStart(@Nullable AgentEvent event, @Nonnull String uniqueId, @Nullable String itemType,
+			@Nullable String codeRef) {
+		if (event instanceof ItemStartEvent startEvent && startEvent.shouldCommit()) {
+			startEvent.uniqueId = uniqueId;
+			startEvent.itemType = itemType;
+			startEvent.codeRef = codeRef;
+			startEvent.commit();
+		}
+	}
+
+	/**
+	 * Begins a test item finish event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginItemFinish() {
+		ItemFinishEvent event = new ItemFinishEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Commits a test item finish event
+	 *
+	 * @param event    an event returned by {@link #beginItemFinish()}
+	 * @param uniqueId a unique ID of the item context
+	 * @param itemType the item type
+	 * @param codeRef  the item code reference
+	 * @param status   the item status
+	 */
+	public static void commitItemFinish(@Nullable AgentEvent event, @Nonnull String uniqueId, @Nullable String itemType,
+			@Nullable String codeRef, @Nullable String status) {
+		if (event instanceof ItemFinishEvent finishEvent && finishEvent.shouldCommit()) {
+			finishEvent.uniqueId = uniqueId;
+			finishEvent.itemType = itemType;
+			finishEvent.codeRef = codeRef;
+			finishEvent.status = status;
+			finishEvent.commit();
+		}
+	}
+
+	/**
+	 * Begins a log emission event
+	 *
+	 * @return the event or <code>null</code> if the event is not recorded
+	 */
+	@Nullable
+	public static AgentEvent beginLog() {
+		LogEvent event = new LogEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Commits a log emission event
+	 *
+	 * @param event     an event returned by {@link #beginLog()}
+	 * @param level     the log level
+	 * @param length    the log message length
+	 * @param launchLog whether the log is attached to the launch rather than to a test item
+	 */
+	public static void commitLog(@Nullable AgentEvent event, @Nonnull String level, int length, boolean launchLog) {
+		if (event instanceof LogEvent logEvent && logEvent.shouldCommit()) {
+			logEvent.level = level;
+			logEvent.length = length;
+			logEvent.launchLog = launchLog;
+			logEvent.commit();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Building and submitting a test item start request
+ */
+@Name("com.epam.reportportal.junit5.ItemStart")
+@Label("Item Start")
+@Category({ "ReportPortal", "JUnit 5 Agent" })
+@Enabled(false)
+@StackTrace(false)
+final class ItemStartEvent extends Event implements AgentEvent {
+
+	@Label("Unique ID")
+	String uniqueId;
+
+	@Label("Item Type")
+	String itemType;
+
+	@Label("Code Reference")
+	String codeRef;
+}
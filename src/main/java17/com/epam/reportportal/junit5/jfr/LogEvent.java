@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Formatting and emitting an agent log, e.g. a failure stack trace
+ */
+@Name("com.epam.reportportal.junit5.Log")
+@Label("Log")
+@Category({ "ReportPortal", "JUnit 5 Agent" })
+@Enabled(false)
+@StackTrace(false)
+final class LogEvent extends Event implements AgentEvent {
+
+	@Label("Level")
+	String level;
+
+	@Label("Length")
+	int length;
+
+	@Label("Launch Log")
+	boolean launchLog;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import javax.annotation.Nonnull;
+import java.util.HexFormat;
+
+/**
+ * Lower case hexadecimal encoding, Java 17+ version
+ */
+final class Hex {
+
+	private static final HexFormat FORMAT = HexFormat.of();
+
+	private Hex() {
+	}
+
+	/**
+	 * @param bytes  bytes to encode
+	 * @param length number of leading bytes to encode
+	 * @return hexadecimal string of <code>length * 2</code> characters
+	 */
+	@Nonnull
+	static String encode(@Nonnull byte[] bytes, int length) {
+		return FORMAT.formatHex(bytes, 0, length);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.junit5.utils.ItemTreeUtils.createItemTreeKey;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CallbackItemTreeTest {
+
+	private static final String CLASS_ID = "[engine:junit-jupiter]/[class:MyTest]";
+	private static final String TEMPLATE_ID = CLASS_ID + "/[test-template:test(int)]";
+	private static final String FIRST_ID = TEMPLATE_ID + "/[test-template-invocation:#1]";
+	private static final String SECOND_ID = TEMPLATE_ID + "/[test-template-invocation:#2]";
+	private static final String NAME = "test(int)";
+
+	private final TestItemTree tree = new TestItemTree();
+
+	private static TestItemTree.TestItemLeaf leaf(String id) {
+		return TestItemTree.createTestItemLeaf(Maybe.just(id));
+	}
+
+	@Test
+	public void verify_leaves_with_the_same_name_are_kept_under_their_parent_by_unique_id() {
+		CallbackItemTree callbackTree = new CallbackItemTree(tree, 0);
+		TestItemTree.TestItemLeaf classLeaf = leaf("class");
+		TestItemTree.TestItemLeaf first = leaf("first");
+		TestItemTree.TestItemLeaf second = leaf("second");
+		callbackTree.addLeaf(CLASS_ID, null, "MyTest", classLeaf);
+		callbackTree.addLeaf(FIRST_ID, classLeaf, NAME, first);
+		callbackTree.addLeaf(SECOND_ID, classLeaf, NAME, second);
+
+		assertThat(tree.getTestItems().get(createItemTreeKey(CLASS_ID)), sameInstance(classLeaf));
+		assertThat(classLeaf.getChildItems().get(createItemTreeKey(FIRST_ID)), sameInstance(first));
+		assertThat(classLeaf.getChildItems().get(createItemTreeKey(SECOND_ID)), sameInstance(second));
+		assertThat(tree.getTestItems().get(createItemTreeKey(NAME)), sameInstance(second));
+		assertThat(callbackTree.getLeaf(FIRST_ID), sameInstance(first));
+	}
+
+	@Test
+	public void verify_leaf_is_evicted_only_after_finish_response_is_resolved() {
+		CallbackItemTree callbackTree = new CallbackItemTree(tree, 0);
+		TestItemTree.TestItemLeaf classLeaf = leaf("class");
+		TestItemTree.TestItemLeaf first = leaf("first");
+		callbackTree.addLeaf(CLASS_ID, null, "MyTest", classLeaf);
+		callbackTree.addLeaf(FIRST_ID, classLeaf, NAME, first);
+
+		MaybeSubject<OperationCompletionRS> finishResponse = MaybeSubject.create();
+		callbackTree.finishLeaf(FIRST_ID, first, finishResponse);
+		callbackTree.evictExpired();
+		assertThat(callbackTree.getLeaf(FIRST_ID), sameInstance(first));
+		assertThat(first.getFinishResponse(), sameInstance(finishResponse));
+
+		finishResponse.onSuccess(new OperationCompletionRS());
+		callbackTree.evictExpired();
+		assertThat(callbackTree.getLeaf(FIRST_ID), nullValue());
+		assertThat(classLeaf.getChildItems().values(), empty());
+		assertThat(tree.getTestItems().get(createItemTreeKey(NAME)), nullValue());
+		assertThat(callbackTree.size(), equalTo(1));
+	}
+
+	@Test
+	public void verify_leaf_is_evicted_after_failed_finish_response() {
+		CallbackItemTree callbackTree = new CallbackItemTree(tree, 0);
+		TestItemTree.TestItemLeaf classLeaf = leaf("class");
+		callbackTree.addLeaf(CLASS_ID, null, "MyTest", classLeaf);
+		callbackTree.finishLeaf(CLASS_ID, classLeaf, Maybe.error(new IllegalStateException("Finish failed")));
+		callbackTree.evictExpired();
+
+		assertThat(callbackTree.size(), equalTo(0));
+		assertThat(tree.getTestItems().values(), empty());
+	}
+
+	@Test
+	public void verify_leaf_is_kept_within_callback_window() {
+		CallbackItemTree callbackTree = new CallbackItemTree(tree, TimeUnit.HOURS.toMillis(1));
+		TestItemTree.TestItemLeaf classLeaf = leaf("class");
+		callbackTree.addLeaf(CLASS_ID, null, "MyTest", classLeaf);
+		callbackTree.finishLeaf(CLASS_ID, classLeaf, Maybe.just(new OperationCompletionRS()));
+		callbackTree.evictExpired();
+
+		assertThat(callbackTree.getLeaf(CLASS_ID), sameInstance(classLeaf));
+		assertThat(tree.getTestItems().get(createItemTreeKey("MyTest")), sameInstance(classLeaf));
+	}
+
+	@Test
+	public void verify_negative_callback_window_disables_eviction() {
+		CallbackItemTree callbackTree = new CallbackItemTree(tree, -1);
+		TestItemTree.TestItemLeaf classLeaf = leaf("class");
+		TestItemTree.TestItemLeaf first = leaf("first");
+		callbackTree.addLeaf(CLASS_ID, null, "MyTest", classLeaf);
+		callbackTree.addLeaf(FIRST_ID, classLeaf, NAME, first);
+		Maybe<OperationCompletionRS> finishResponse = Maybe.just(new OperationCompletionRS());
+		callbackTree.finishLeaf(FIRST_ID, first, finishResponse);
+		callbackTree.evictExpired();
+
+		assertThat(first.getFinishResponse(), sameInstance(finishResponse));
+		assertThat(classLeaf.getChildItems().get(createItemTreeKey(FIRST_ID)), sameInstance(first));
+		assertThat(tree.getTestItems().get(createItemTreeKey(NAME)), sameInstance(first));
+		// leaves are not tracked for eviction
+		assertThat(callbackTree.size(), equalTo(0));
+	}
+}
@@ -1,5 +1,6 @@
 package com.epam.reportportal.junit5;
 
+import com.epam.reportportal.junit5.features.coderef.NestedDynamicTest;
 import com.epam.reportportal.junit5.features.coderef.SingleDynamicTest;
 import com.epam.reportportal.junit5.features.coderef.SingleTest;
 import com.epam.reportportal.junit5.util.TestUtils;
@@ -15,8 +16,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -84,4 +87,19 @@ public class CodeReferenceTest {
 		assertThat(rqValues.get(1).getCodeRef(), equalTo(testName + "$" + SingleDynamicTest.TEST_CASE_DISPLAY_NAME));
 	}
 
+	@Test
+	public void verify_nested_dynamic_test_code_reference_generation() {
+		TestUtils.runClasses(NestedDynamicTest.class);
+
+		Launch launch = CodeReferenceTestExtension.LAUNCH;
+
+		ArgumentCaptor<StartTestItemRQ> testCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(4)).startTestItem(notNull(), testCaptor.capture()); // Start a test factory, two containers and a test
+
+		String factoryName = NestedDynamicTest.class.getCanonicalName() + ".testForTestFactory";
+		String outerName = factoryName + "$" + NestedDynamicTest.OUTER_CONTAINER;
+		String innerName = outerName + "$" + NestedDynamicTest.INNER_CONTAINER;
+		List<String> codeRefs = testCaptor.getAllValues().stream().map(StartTestItemRQ::getCodeRef).collect(Collectors.toList());
+		assertThat(codeRefs, contains(factoryName, outerName, innerName, innerName + "$" + NestedDynamicTest.TEST_CASE_DISPLAY_NAME));
+	}
 }
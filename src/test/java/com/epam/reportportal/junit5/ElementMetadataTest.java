@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.annotations.Description;
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.utils.ParameterUtils;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ElementMetadataTest {
+
+	@Description("Class description")
+	@Attributes(attributes = @Attribute(key = "level", value = "class"))
+	public static class AnnotatedClass {
+		@Attributes(attributes = @Attribute(key = "level", value = "method"))
+		public void parameterized(@ParameterKey("first") String first, int second, Object third) {
+		}
+
+		@Description("Method description")
+		public void described() {
+		}
+	}
+
+	@Test
+	public void verify_parameters_are_the_same_as_parameter_utils_returns() throws NoSuchMethodException {
+		Method method = AnnotatedClass.class.getMethod("parameterized", String.class, int.class, Object.class);
+		List<Object> arguments = Arrays.asList("value", 1, null);
+		assertThat(ElementMetadata.of(method).getParameters(arguments), equalTo(ParameterUtils.getParameters(method, arguments)));
+		assertThat(ElementMetadata.of(method).getParameters(Collections.singletonList("value")),
+				equalTo(ParameterUtils.getParameters(method, Collections.singletonList("value")))
+		);
+		assertThat(ElementMetadata.of(method).getParameters(null), equalTo(ParameterUtils.getParameters(method, null)));
+	}
+
+	@Test
+	public void verify_metadata_is_parsed_once() throws NoSuchMethodException {
+		Method method = AnnotatedClass.class.getMethod("described");
+		assertThat(ElementMetadata.of(method), sameInstance(ElementMetadata.of(method)));
+		assertThat(ElementMetadata.of(AnnotatedClass.class), sameInstance(ElementMetadata.of(AnnotatedClass.class)));
+	}
+
+	@Test
+	public void verify_description_and_attributes() throws NoSuchMethodException {
+		Method parameterized = AnnotatedClass.class.getMethod("parameterized", String.class, int.class, Object.class);
+		Method described = AnnotatedClass.class.getMethod("described");
+		assertThat(ElementMetadata.of(parameterized).getDescription(), equalTo("Class description"));
+		assertThat(ElementMetadata.of(described).getDescription(), equalTo("Method description"));
+
+		Set<ItemAttributesRQ> attributes = ElementMetadata.of(parameterized).getAttributes();
+		assertThat(attributes, contains(new ItemAttributesRQ("level", "method")));
+		attributes.iterator().next().setValue("changed");
+		assertThat(ElementMetadata.of(parameterized).getAttributes(), contains(new ItemAttributesRQ("level", "method")));
+		assertThat(ElementMetadata.of(AnnotatedClass.class).getAttributes(), contains(new ItemAttributesRQ("level", "class")));
+		assertThat(ElementMetadata.of(described).getAttributes(), empty());
+	}
+}
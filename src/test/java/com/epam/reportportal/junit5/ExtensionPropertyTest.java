@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ExtensionPropertyTest {
+
+	@AfterEach
+	public void clearProperties() {
+		System.clearProperty(ExtensionProperty.CALLBACK_WINDOW.getPropertyName());
+		System.clearProperty(ExtensionProperty.STACK_TRACE_MAX_FRAMES.getPropertyName());
+	}
+
+	@Test
+	public void verify_numeric_values_are_parsed() {
+		System.setProperty(ExtensionProperty.CALLBACK_WINDOW.getPropertyName(), " 60000 ");
+		System.setProperty(ExtensionProperty.STACK_TRACE_MAX_FRAMES.getPropertyName(), "10");
+
+		assertThat(ExtensionProperty.CALLBACK_WINDOW.getValue(-1L), equalTo(60000L));
+		assertThat(ExtensionProperty.STACK_TRACE_MAX_FRAMES.getValue(5), equalTo(10));
+	}
+
+	@Test
+	public void verify_malformed_numeric_values_fall_back_to_default() {
+		System.setProperty(ExtensionProperty.CALLBACK_WINDOW.getPropertyName(), "1m");
+		System.setProperty(ExtensionProperty.STACK_TRACE_MAX_FRAMES.getPropertyName(), "ten");
+
+		assertThat(ExtensionProperty.CALLBACK_WINDOW.getValue(-1L), equalTo(-1L));
+		assertThat(ExtensionProperty.STACK_TRACE_MAX_FRAMES.getValue(5), equalTo(5));
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.store.FirstStoreFeatureTest;
+import com.epam.reportportal.junit5.features.store.SecondStoreFeatureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class ExtensionStoreTest {
+
+	public static class StoreExtension extends ReportPortalExtension {
+		static final String LAUNCH_ID = UUID.randomUUID().toString();
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+		static final AtomicInteger LAUNCH_ID_CALLS = new AtomicInteger();
+		static volatile ReportPortal REPORT_PORTAL;
+
+		public StoreExtension() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			LAUNCH_ID_CALLS.incrementAndGet();
+			return LAUNCH_ID;
+		}
+	}
+
+	private ReportPortalClient client;
+
+	@BeforeEach
+	public void setupMock() {
+		client = TestUtils.getRecordingStubClient();
+		StoreExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+		StoreExtension.INSTANCES.set(0);
+		StoreExtension.LAUNCH_ID_CALLS.set(0);
+	}
+
+	@Test
+	public void verify_extension_registrations_share_launch_and_items() {
+		TestUtils.runClasses(FirstStoreFeatureTest.class, SecondStoreFeatureTest.class);
+
+		assertThat(StoreExtension.INSTANCES.get(), greaterThan(1));
+		assertThat(StoreExtension.LAUNCH_ID_CALLS.get(), equalTo(1));
+
+		verify(client, timeout(TimeUnit.SECONDS.toMillis(2)).times(1)).startLaunch(any());
+		verify(client, timeout(TimeUnit.SECONDS.toMillis(2)).times(2)).startTestItem(any());
+		// 2 tests, a nested class and its test; a parameterized test and its 2 invocations
+		verify(client, timeout(TimeUnit.SECONDS.toMillis(2)).times(7)).startTestItem(any(), any());
+		verify(client, timeout(TimeUnit.SECONDS.toMillis(2)).times(9)).finishTestItem(any(), any());
+	}
+}
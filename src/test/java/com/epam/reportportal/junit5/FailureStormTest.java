@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.trace.FailureStormFeatureTest;
+import com.epam.reportportal.junit5.spool.JournalReader;
+import com.epam.reportportal.junit5.spool.JournalRecord;
+import com.epam.reportportal.junit5.spool.JournalReportPortalClient;
+import com.epam.reportportal.junit5.spool.MultipartCodec;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FailureStormTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	public static class FailureStormExtension extends ReportPortalExtension {
+		static final String LAUNCH_ID = UUID.randomUUID().toString();
+		static volatile ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			return LAUNCH_ID;
+		}
+	}
+
+	@Test
+	public void verify_failure_storm_is_collapsed_into_cluster(@TempDir Path directory) throws IOException {
+		JournalReportPortalClient client = JournalReportPortalClient.create(directory);
+		FailureStormExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+
+		TestUtils.runClasses(FailureStormFeatureTest.class);
+		new FailureStormExtension().finish();
+		client.close();
+
+		Path journal;
+		try (Stream<Path> files = Files.list(directory)) {
+			journal = files.findAny().orElseThrow(() -> new AssertionError("Journal should be written"));
+		}
+		List<FinishTestItemRQ> finishes = new ArrayList<>();
+		List<SaveLogRQ> logs = new ArrayList<>();
+		try (JournalReader reader = new JournalReader(journal)) {
+			JournalRecord record;
+			while ((record = reader.next()) != null) {
+				if (record.getType() == JournalRecord.Type.FINISH_ITEM) {
+					finishes.add(MAPPER.readValue(record.getPayload(), FinishTestItemRQ.class));
+				} else if (record.getType() == JournalRecord.Type.LOG_BATCH) {
+					logs.addAll(MultipartCodec.decodeLogs(record.getPayload()));
+				}
+			}
+		}
+
+		List<FinishTestItemRQ> failures = finishes.stream()
+				.filter(rq -> ItemStatus.FAILED.name().equals(rq.getStatus()) && rq.getIssue() == null)
+				.collect(Collectors.toList());
+		List<String> clusters = failures.stream()
+				.flatMap(rq -> rq.getAttributes() == null ? Stream.empty() : rq.getAttributes().stream())
+				.filter(a -> ReportPortalExtension.FAILURE_CLUSTER_ATTRIBUTE.equals(a.getKey()))
+				.map(ItemAttributesRQ::getValue)
+				.collect(Collectors.toList());
+		// the storm starts with the 50th failure
+		assertThat(clusters, hasSize(FailureStormFeatureTest.FAILURES - 49));
+		String cluster = clusters.get(0);
+		assertThat(clusters, everyItem(equalTo(cluster)));
+
+		// test resources contain a logging appender, so agent's own logs are also reported
+		List<String> itemLogs = logs.stream()
+				.filter(l -> l.getItemUuid() != null && "ERROR".equals(l.getLevel()))
+				.map(SaveLogRQ::getMessage)
+				.collect(Collectors.toList());
+		assertThat(itemLogs, hasSize(FailureStormFeatureTest.FAILURES));
+		assertThat(itemLogs, hasItem(containsString("Failure storm detected, cluster: " + cluster)));
+		assertThat(
+				itemLogs.stream().filter(l -> l.contains("Failure storm cluster: " + cluster)).collect(Collectors.toList()),
+				hasSize(FailureStormFeatureTest.FAILURES - 50)
+		);
+
+		List<String> launchLogs = logs.stream()
+				.filter(l -> l.getItemUuid() == null && "ERROR".equals(l.getLevel()))
+				.map(SaveLogRQ::getMessage)
+				.collect(Collectors.toList());
+		assertThat(launchLogs, hasSize(1));
+		assertThat(launchLogs.get(0), startsWith("Failure storms detected"));
+		assertThat(launchLogs.get(0), containsString(cluster + ": " + FailureStormFeatureTest.FAILURES + " failures"));
+		assertThat(launchLogs.get(0), containsString("java.lang.IllegalStateException: Service is unavailable"));
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.jfr.FlightRecorderFeatureTest;
+import com.epam.reportportal.junit5.jfr.AgentEvents;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FlightRecorderTest {
+
+	private static final String EVENT_PREFIX = "com.epam.reportportal.junit5.";
+
+	public static class FlightRecorderExtension extends ReportPortalExtension {
+		static final Launch LAUNCH = TestUtils.getBasicMockedLaunch();
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+		return events.stream().filter(e -> e.getEventType().getName().equals(EVENT_PREFIX + name)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_agent_events_are_recorded_when_enabled(@TempDir Path directory) throws IOException {
+		if (TestUtils.getMultiReleaseVersion() >= 17) {
+			// testJava17 and testJava21 tasks run against the multi-release JAR, which must contain the events
+			assertThat(AgentEvents.isSupported(), equalTo(true));
+		}
+		assumeTrue(AgentEvents.isSupported(), "Agent events are emitted on Java 17+");
+
+		Path file = directory.resolve("agent.jfr");
+		try (Recording recording = new Recording()) {
+			for (String name : new String[] { "Callback", "ItemStart", "ItemFinish", "Log" }) {
+				recording.enable(EVENT_PREFIX + name);
+			}
+			recording.start();
+			TestUtils.runClasses(FlightRecorderFeatureTest.class);
+			recording.stop();
+			recording.dump(file);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+		List<String> callbacks = events(events, "Callback").stream().map(e -> e.getString("callback")).collect(Collectors.toList());
+		assertThat(callbacks, hasItems("beforeAll", "beforeEach", "interceptTestMethod", "afterTestExecution", "afterAll"));
+
+		List<RecordedEvent> starts = events(events, "ItemStart");
+		assertThat(starts, hasSize(3));
+		assertThat(starts.stream().map(e -> e.getString("itemType")).collect(Collectors.toList()), containsInAnyOrder("SUITE", "STEP", "STEP"));
+		assertThat(
+				starts.stream().map(e -> e.getString("codeRef")).collect(Collectors.toList()),
+				hasItem(FlightRecorderFeatureTest.class.getCanonicalName() + ".failedTest")
+		);
+
+		List<RecordedEvent> finishes = events(events, "ItemFinish");
+		assertThat(finishes, hasSize(3));
+		assertThat(finishes.stream().map(e -> e.getString("status")).collect(Collectors.toList()), hasItems("PASSED", "FAILED"));
+
+		List<RecordedEvent> logs = events(events, "Log");
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getInt("length"), greaterThan(0));
+	}
+
+	@Test
+	public void verify_agent_events_are_not_recorded_by_default() {
+		assertThat(AgentEvents.beginCallback(), nullValue());
+		assertThat(AgentEvents.beginItemStart(), nullValue());
+		assertThat(AgentEvents.beginLog(), nullValue());
+	}
+}
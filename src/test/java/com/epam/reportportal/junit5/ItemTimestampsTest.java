@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ItemTimestampsTest {
+
+	private static final String CLASS_ID = "[engine:junit-jupiter]/[class:MyTest]";
+	private static final String FIRST_ID = CLASS_ID + "/[method:first()]";
+	private static final String SECOND_ID = CLASS_ID + "/[method:second()]";
+	private static final long NOW = 1_700_000_000_000L;
+
+	private final ItemTimestamps timestamps = new ItemTimestamps();
+
+	@Test
+	public void verify_start_times_of_siblings_are_strictly_increasing_within_the_same_millisecond() {
+		Date classStart = timestamps.start(null, NOW);
+		Date first = timestamps.start(CLASS_ID, NOW);
+		Date second = timestamps.start(CLASS_ID, NOW);
+		Date third = timestamps.start(CLASS_ID, NOW);
+
+		assertThat(classStart.getTime(), equalTo(NOW));
+		assertThat(first.getTime(), equalTo(NOW));
+		assertThat(second.getTime(), equalTo(NOW + 1));
+		assertThat(third.getTime(), equalTo(NOW + 2));
+	}
+
+	@Test
+	public void verify_start_times_follow_the_clock_if_it_is_ahead() {
+		timestamps.start(CLASS_ID, NOW);
+		assertThat(timestamps.start(CLASS_ID, NOW + 10).getTime(), equalTo(NOW + 10));
+		assertThat(timestamps.start(CLASS_ID, NOW + 5).getTime(), equalTo(NOW + 11));
+	}
+
+	@Test
+	public void verify_children_start_after_their_parent_if_the_parent_start_was_moved_ahead() {
+		timestamps.start(CLASS_ID, NOW);
+		timestamps.start(CLASS_ID, NOW);
+		Date secondStart = timestamps.start(CLASS_ID, NOW);
+		timestamps.started(SECOND_ID, secondStart);
+
+		assertThat(timestamps.start(SECOND_ID, NOW), greaterThan(secondStart));
+		assertThat(timestamps.end(SECOND_ID, CLASS_ID, NOW), greaterThan(secondStart));
+	}
+
+	@Test
+	public void verify_end_time_is_not_less_than_times_of_children_and_siblings() {
+		timestamps.start(null, NOW);
+		timestamps.start(CLASS_ID, NOW);
+		Date secondStart = timestamps.start(CLASS_ID, NOW);
+		timestamps.start(SECOND_ID, NOW);
+		Date secondChildStart = timestamps.start(SECOND_ID, NOW);
+
+		Date firstEnd = timestamps.end(FIRST_ID, CLASS_ID, NOW);
+		assertThat(firstEnd, greaterThanOrEqualTo(secondStart));
+
+		Date secondEnd = timestamps.end(SECOND_ID, CLASS_ID, NOW);
+		assertThat(secondEnd, greaterThanOrEqualTo(secondChildStart));
+
+		Date classEnd = timestamps.end(CLASS_ID, null, NOW);
+		assertThat(classEnd, greaterThanOrEqualTo(secondEnd));
+
+		Date nextSibling = timestamps.start(CLASS_ID, NOW);
+		assertThat(nextSibling, greaterThan(secondEnd));
+	}
+
+	@Test
+	public void verify_released_items_are_not_tracked() {
+		timestamps.started(CLASS_ID, timestamps.start(null, NOW));
+		timestamps.started(FIRST_ID, timestamps.start(CLASS_ID, NOW));
+		timestamps.end(FIRST_ID, CLASS_ID, NOW);
+		timestamps.release(FIRST_ID);
+		timestamps.end(CLASS_ID, null, NOW);
+		timestamps.release(CLASS_ID);
+
+		assertThat("Only the root is tracked", timestamps.size(), equalTo(1));
+	}
+
+	@Test
+	public void verify_start_times_are_unique_under_concurrent_execution() throws Exception {
+		int threads = 8;
+		int perThread = 10_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<List<Long>>> results = IntStream.range(0, threads)
+					.mapToObj(i -> executor.submit(() -> IntStream.range(0, perThread)
+							.mapToObj(j -> timestamps.start(CLASS_ID, NOW).getTime())
+							.collect(Collectors.toList())))
+					.collect(Collectors.toList());
+			Set<Long> times = new HashSet<>();
+			for (Future<List<Long>> result : results) {
+				List<Long> threadTimes = result.get(1, TimeUnit.MINUTES);
+				for (int i = 1; i < threadTimes.size(); i++) {
+					assertThat(threadTimes.get(i), greaterThan(threadTimes.get(i - 1)));
+				}
+				times.addAll(threadTimes);
+			}
+			assertThat(times, hasSize(threads * perThread));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
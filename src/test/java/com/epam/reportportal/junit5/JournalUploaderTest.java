@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.spool.SpooledTest;
+import com.epam.reportportal.junit5.spool.JournalReportPortalClient;
+import com.epam.reportportal.junit5.spool.JournalUploader;
+import com.epam.reportportal.junit5.spool.UploadProgress;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class JournalUploaderTest {
+
+	@TempDir
+	Path directory;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private List<Path> journals;
+
+	@BeforeEach
+	public void spool() throws IOException {
+		JournalReportPortalClient client = JournalReportPortalClient.create(directory);
+		SpoolTest.SpoolExtension.init(client);
+		TestUtils.runClasses(SpooledTest.class);
+		new SpoolTest.SpoolExtension().finish();
+		try (Stream<Path> files = Files.list(directory)) {
+			journals = files.collect(Collectors.toList());
+		}
+	}
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static ReportPortalClient mockClient() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenAnswer(i -> Maybe.just(new StartLaunchRS(i.<StartLaunchRQ>getArgument(0).getUuid(), 1L)));
+		when(client.startTestItem(any())).thenAnswer(i -> {
+			String uuid = i.<StartTestItemRQ>getArgument(0).getUuid();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		});
+		when(client.startTestItem(anyString(), any())).thenAnswer(i -> {
+			String uuid = i.<StartTestItemRQ>getArgument(1).getUuid();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		});
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.log(anyList())).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		when(client.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		return client;
+	}
+
+	private void upload(ReportPortalClient client) throws IOException {
+		try (UploadProgress progress = new UploadProgress(directory.resolve(JournalUploader.PROGRESS_FILE))) {
+			new JournalUploader(client, executor, 10, 64 * 1024 * 1024, 4).upload(journals, progress);
+		}
+	}
+
+	private static String content(List<MultipartBody.Part> parts) throws IOException {
+		Buffer content = new Buffer();
+		for (MultipartBody.Part part : parts) {
+			part.body().writeTo(content);
+		}
+		return content.readString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_journal_is_uploaded_preserving_structure() throws IOException {
+		ReportPortalClient client = mockClient();
+		upload(client);
+
+		ArgumentCaptor<StartLaunchRQ> launchCaptor = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(client).startLaunch(launchCaptor.capture());
+		String launchUuid = launchCaptor.getValue().getUuid();
+		assertThat(launchUuid, notNullValue());
+
+		ArgumentCaptor<StartTestItemRQ> suiteCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(suiteCaptor.capture());
+		String suiteUuid = suiteCaptor.getValue().getUuid();
+		assertThat(suiteCaptor.getValue().getLaunchUuid(), equalTo(launchUuid));
+
+		ArgumentCaptor<StartTestItemRQ> stepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(eq(suiteUuid), stepCaptor.capture());
+		verify(client).finishTestItem(eq(suiteUuid), any());
+		stepCaptor.getAllValues().forEach(step -> verify(client).finishTestItem(eq(step.getUuid()), any()));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		StringBuilder logs = new StringBuilder();
+		for (List<MultipartBody.Part> parts : logCaptor.getAllValues()) {
+			logs.append(content(parts));
+		}
+		assertThat(logs.toString(), containsString(SpooledTest.FAILURE_MESSAGE));
+
+		verify(client).finishLaunch(eq(launchUuid), any());
+	}
+
+	@Test
+	public void verify_interrupted_upload_is_resumed() throws IOException {
+		ReportPortalClient failingClient = mockClient();
+		when(failingClient.log(anyList())).thenReturn(Maybe.error(new IOException("Connection reset")));
+		assertThrows(IllegalStateException.class, () -> upload(failingClient));
+		verify(failingClient, never()).finishLaunch(anyString(), any());
+
+		ReportPortalClient client = mockClient();
+		upload(client);
+		verify(client, never()).startLaunch(any());
+		verify(client, never()).startTestItem(any());
+		verify(client, never()).startTestItem(anyString(), any());
+		verify(client, never()).finishTestItem(anyString(), any());
+		verify(client, atLeastOnce()).log(anyList());
+		verify(client).finishLaunch(anyString(), any());
+
+		ReportPortalClient completedClient = mockClient();
+		upload(completedClient);
+		verifyNoInteractions(completedClient);
+	}
+}
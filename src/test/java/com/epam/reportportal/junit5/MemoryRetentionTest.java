@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.memory.FailedConstructorTest;
+import com.epam.reportportal.junit5.features.memory.RetainedInstanceTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Runs a big parameterized suite through the extension and verifies that finished tests are not retained: their contexts and test
+ * instances must become unreachable and used heap growth per test must stay far below the size of a test instance. The default build
+ * runs a small suite, bigger runs are opt-in: <code>./gradlew test --tests '*MemoryRetentionTest' -Pmemory.tests=1000000</code>.
+ */
+public class MemoryRetentionTest {
+
+	public static final String TEST_NUMBER_PROPERTY = "memory.tests";
+	public static final int INSTANCE_PAYLOAD = 16 * 1024;
+
+	private static final int DEFAULT_TEST_NUMBER = 5_000;
+	private static final int WARM_UP_TESTS = 1_000;
+	// JUnit's test plan and the client's queue of children to await on parent finish take ~2 KB per test until the parent is finished
+	private static final long MAX_HEAP_GROWTH_PER_TEST = 4 * 1024;
+	private static final int GC_ATTEMPTS = 20;
+
+	private static final List<WeakReference<Object>> TRACKED = Collections.synchronizedList(new ArrayList<>());
+	private static final List<Long> HEAP_SAMPLES = new CopyOnWriteArrayList<>();
+
+	public static class RetentionExtension extends ReportPortalExtension {
+		static final ReportPortal REPORT_PORTAL = ReportPortal.create(TestUtils.getStubClient(), TestUtils.standardParameters());
+		// JUnit drops extension instances with their test class, keep them to catch state retained by the extension itself
+		static final List<RetentionExtension> INSTANCES = new CopyOnWriteArrayList<>();
+		static volatile String LAUNCH_ID = UUID.randomUUID().toString();
+
+		public RetentionExtension() {
+			INSTANCES.add(this);
+		}
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			return LAUNCH_ID;
+		}
+	}
+
+	/**
+	 * Tracks class and test contexts and test instances with weak references
+	 */
+	public static class InstanceTracker implements BeforeAllCallback, BeforeEachCallback {
+		@Override
+		public void beforeAll(ExtensionContext context) {
+			TRACKED.add(new WeakReference<>(context));
+		}
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+			TRACKED.add(new WeakReference<>(context));
+			TRACKED.add(new WeakReference<>(context.getRequiredTestInstance()));
+		}
+	}
+
+	public static int getTestNumber() {
+		return Integer.parseInt(System.getProperty(TEST_NUMBER_PROPERTY, String.valueOf(DEFAULT_TEST_NUMBER)));
+	}
+
+	public static void onTest(int index) {
+		if (index == WARM_UP_TESTS || index == getTestNumber() - 1) {
+			HEAP_SAMPLES.add(usedHeap());
+		}
+	}
+
+	private static long usedHeap() {
+		WeakReference<Object> sentinel = new WeakReference<>(new Object());
+		for (int i = 0; i < GC_ATTEMPTS && sentinel.get() != null; i++) {
+			System.gc();
+		}
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static long retainedNumber() throws InterruptedException {
+		long retained = TRACKED.size();
+		for (int i = 0; i < GC_ATTEMPTS && retained > 0; i++) {
+			System.gc();
+			Thread.sleep(50);
+			retained = TRACKED.stream().filter(r -> r.get() != null).count();
+		}
+		return retained;
+	}
+
+	@Test
+	public void verify_finished_tests_are_not_retained() throws InterruptedException {
+		int testNumber = getTestNumber();
+		RetentionExtension.LAUNCH_ID = UUID.randomUUID().toString();
+		TestUtils.runClasses(FailedConstructorTest.class, RetainedInstanceTest.class);
+		RetentionExtension.INSTANCES.get(0).finish();
+
+		assertThat(RetentionExtension.INSTANCES, hasSize(2));
+		// 2 class contexts, then a context and an instance per test
+		assertThat(TRACKED, hasSize(2 + testNumber * 2));
+		assertThat("Contexts and test instances of finished tests should be collectable", retainedNumber(), equalTo(0L));
+
+		assertThat(HEAP_SAMPLES, hasSize(2));
+		long growthPerTest = (HEAP_SAMPLES.get(1) - HEAP_SAMPLES.get(0)) / (testNumber - WARM_UP_TESTS);
+		assertThat(String.format("Used heap growth per test over %d tests", testNumber), growthPerTest, lessThan(MAX_HEAP_GROWTH_PER_TEST));
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.metrics.MetricsFeatureTest;
+import com.epam.reportportal.junit5.metrics.AgentMetrics;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import javax.annotation.Nonnull;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class MetricsTest {
+
+	public static class MetricsExtension extends ReportPortalExtension {
+		static volatile AgentMetrics METRICS;
+		static volatile Launch LAUNCH;
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+
+		@Nonnull
+		@Override
+		protected AgentMetrics getMetrics() {
+			return METRICS;
+		}
+	}
+
+	@BeforeEach
+	public void setupMetrics() {
+		MetricsExtension.METRICS = new AgentMetrics(true);
+		MetricsExtension.LAUNCH = TestUtils.getBasicMockedLaunch();
+	}
+
+	@Test
+	public void verify_callbacks_and_items_are_measured() {
+		TestUtils.runClasses(MetricsFeatureTest.class);
+
+		AgentMetrics metrics = MetricsExtension.METRICS;
+		assertThat(metrics.getBeforeAllLatency().getCount(), equalTo(1L));
+		assertThat(metrics.getAfterAllLatency().getCount(), equalTo(1L));
+		assertThat(metrics.getInterceptTestMethodLatency().getCount(), equalTo(2L));
+		// 2 tests and 2 parameterized test invocations
+		assertThat(metrics.getAfterTestExecutionLatency().getCount(), equalTo(4L));
+		assertThat(metrics.getSendStackTraceLatency().getCount(), equalTo(1L));
+
+		// a class, 2 tests, a parameterized test template and its 2 invocations
+		assertThat(metrics.getItemsStarted(), equalTo(6L));
+		assertThat(metrics.getItemsFinished(), equalTo(6L));
+		assertThat(metrics.getItemsPending(), equalTo(0L));
+		assertThat(metrics.getOpenTemplates(), equalTo(0L));
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.parallel.ParallelNestedTest;
+import com.epam.reportportal.junit5.features.parallel.ParallelParameters;
+import com.epam.reportportal.junit5.features.parallel.ParallelSuites;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs generated test classes, nested classes and dynamic tests with JUnit parallel execution enabled and verifies the reported item
+ * hierarchy. The default build generates a small number of classes, which is still enough for contention between reporting threads. The
+ * throughput scaling measurement is disabled by default, to run it and to verify the hierarchy of a bigger suite pass the number of
+ * generated classes, e.g.: <code>./gradlew test --tests '*ParallelExecutionTest' -Pparallel.tests=5000</code>. The suite is run with parallelism from 1 up to
+ * the number of available processors. If <code>parallel.tests.minSpeedup</code> property is set the test fails when the throughput
+ * with the maximum parallelism is less than the throughput of a single thread multiplied by the given factor.
+ */
+public class ParallelExecutionTest {
+
+	public static final String SIZE_PROPERTY = "parallel.tests";
+	public static final String MIN_SPEEDUP_PROPERTY = "parallel.tests.minSpeedup";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelExecutionTest.class);
+
+	private static final int DEFAULT_HIERARCHY_CLASSES = 100;
+	private static final int HIERARCHY_PARALLELISM = 16;
+	private static final long SCALING_WORK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+	public static class ParallelExtension extends ReportPortalExtension {
+		static volatile ReportPortal REPORT_PORTAL;
+		static volatile String LAUNCH_ID = UUID.randomUUID().toString();
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			return LAUNCH_ID;
+		}
+	}
+
+	private static final class Item {
+		private final String parentUuid;
+		private final StartTestItemRQ start;
+		private final List<FinishTestItemRQ> finishes = Collections.synchronizedList(new ArrayList<>());
+
+		private Item(String parentUuid, StartTestItemRQ start) {
+			this.parentUuid = parentUuid;
+			this.start = start;
+		}
+	}
+
+	private final Map<String, Item> items = new ConcurrentHashMap<>();
+
+	private Maybe<ItemCreatedRS> startItem(String parentUuid, StartTestItemRQ rq) {
+		String uuid = UUID.randomUUID().toString();
+		items.put(uuid, new Item(parentUuid, rq));
+		return Maybe.just(new ItemCreatedRS(uuid, uuid));
+	}
+
+	@SuppressWarnings("unchecked")
+	private ReportPortalClient recordingClient() {
+		ReportPortalClient client = mock(ReportPortalClient.class, withSettings().stubOnly());
+		when(client.startLaunch(any())).thenAnswer(i -> Maybe.just(new StartLaunchRS(UUID.randomUUID().toString(), 1L)));
+		when(client.startTestItem(any())).thenAnswer(i -> startItem(null, i.getArgument(0)));
+		when(client.startTestItem(any(), any())).thenAnswer(i -> startItem(i.getArgument(0), i.getArgument(1)));
+		when(client.finishTestItem(any(), any())).thenAnswer(i -> {
+			items.get(i.<String>getArgument(0)).finishes.add(i.getArgument(1));
+			return Maybe.just(new OperationCompletionRS());
+		});
+		when(client.finishLaunch(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.log(any(List.class))).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		return client;
+	}
+
+	private static Map<String, String> parallelConfiguration(int parallelism) {
+		Map<String, String> result = new HashMap<>();
+		result.put("junit.jupiter.execution.parallel.enabled", "true");
+		result.put("junit.jupiter.execution.parallel.mode.default", "concurrent");
+		result.put("junit.jupiter.execution.parallel.mode.classes.default", "concurrent");
+		result.put("junit.jupiter.execution.parallel.config.strategy", "fixed");
+		result.put("junit.jupiter.execution.parallel.config.fixed.parallelism", String.valueOf(parallelism));
+		return result;
+	}
+
+	private static long run(ReportPortalClient client, int parallelism, Class<?>[] classes) {
+		ParallelExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+		ParallelExtension.LAUNCH_ID = UUID.randomUUID().toString();
+		long start = System.nanoTime();
+		TestUtils.runClasses(parallelConfiguration(parallelism), classes);
+		new ParallelExtension().finish();
+		return System.nanoTime() - start;
+	}
+
+	@AfterEach
+	public void resetWork() {
+		ParallelParameters.setWorkNanos(0);
+	}
+
+	@Test
+	public void verify_item_hierarchy_is_correct_under_parallel_execution() {
+		int size = Integer.getInteger(SIZE_PROPERTY, DEFAULT_HIERARCHY_CLASSES);
+		Class<?>[] classes = Stream.concat(Arrays.stream(ParallelSuites.generate(size)), Stream.of(ParallelNestedTest.class))
+				.toArray(Class<?>[]::new);
+		run(recordingClient(), HIERARCHY_PARALLELISM, classes);
+
+		assertThat(items.values(), hasSize(size * ParallelSuites.ITEMS_PER_CLASS + ParallelNestedTest.ITEMS));
+		List<Item> roots = items.values().stream().filter(i -> i.parentUuid == null).collect(Collectors.toList());
+		assertThat(roots, hasSize(classes.length));
+		assertThat(roots.stream().map(i -> i.start.getCodeRef()).collect(Collectors.toSet()),
+				equalTo(Arrays.stream(classes).map(Class::getCanonicalName).collect(Collectors.toSet()))
+		);
+
+		items.values().forEach(item -> {
+			assertThat("Every item is finished once: " + item.start.getCodeRef(), item.finishes, hasSize(1));
+			if (item.parentUuid == null) {
+				return;
+			}
+			Item parent = items.get(item.parentUuid);
+			assertThat("Parent item is reported: " + item.start.getCodeRef(), parent, notNullValue());
+			assertThat("Item is reported under its parent", item.start.getCodeRef(), startsWith(parent.start.getCodeRef()));
+			assertThat("Item starts after its parent: " + item.start.getCodeRef(),
+					item.start.getStartTime(),
+					greaterThanOrEqualTo(parent.start.getStartTime())
+			);
+			assertThat("Item finishes before its parent: " + item.start.getCodeRef(),
+					item.finishes.get(0).getEndTime(),
+					lessThanOrEqualTo(parent.finishes.get(0).getEndTime())
+			);
+		});
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = SIZE_PROPERTY, matches = "\\d+")
+	public void measure_throughput_scaling_with_parallelism() {
+		int size = Integer.parseInt(System.getProperty(SIZE_PROPERTY));
+		ParallelParameters.setWorkNanos(SCALING_WORK_NANOS);
+		ReportPortalClient client = TestUtils.getStubClient();
+		run(client, Runtime.getRuntime().availableProcessors(), ParallelSuites.generate(Math.min(size, 1000)));
+
+		int tests = size * ParallelSuites.ITEMS_PER_CLASS;
+		Map<Integer, Double> throughputs = new LinkedHashMap<>();
+		for (int parallelism = 1; ; parallelism = Math.min(parallelism * 2, Runtime.getRuntime().availableProcessors())) {
+			long time = run(client, parallelism, ParallelSuites.generate(size));
+			double throughput = tests / (time / 1_000_000_000.0);
+			throughputs.put(parallelism, throughput);
+			LOGGER.info(String.format("Parallel suite, %d classes, parallelism %d: %d ms, %.0f items per second, speedup %.2f",
+					size,
+					parallelism,
+					TimeUnit.NANOSECONDS.toMillis(time),
+					throughput,
+					throughput / throughputs.get(1)
+			));
+			if (parallelism == Runtime.getRuntime().availableProcessors()) {
+				break;
+			}
+		}
+
+		String minSpeedup = System.getProperty(MIN_SPEEDUP_PROPERTY);
+		if (minSpeedup != null) {
+			double speedup = throughputs.get(Runtime.getRuntime().availableProcessors()) / throughputs.get(1);
+			assertThat(speedup, greaterThanOrEqualTo(Double.parseDouble(minSpeedup)));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.budget.BackpressurePolicy;
+import com.epam.reportportal.junit5.budget.InFlightBudget;
+import com.epam.reportportal.junit5.features.budget.BudgetFeatureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ReportingBudgetTest {
+
+	public static class BudgetExtension extends ReportPortalExtension {
+		static volatile InFlightBudget BUDGET;
+		static volatile Launch LAUNCH;
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+
+		@Nonnull
+		@Override
+		protected InFlightBudget getBudget() {
+			return BUDGET;
+		}
+	}
+
+	private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+	private static final AtomicInteger MAX_IN_FLIGHT = new AtomicInteger();
+
+	private static <T> Maybe<T> slowResponse(T value) {
+		MAX_IN_FLIGHT.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+		Maybe<T> result = Maybe.just(value).delay(20, TimeUnit.MILLISECONDS).doOnSuccess(v -> IN_FLIGHT.decrementAndGet()).cache();
+		//noinspection ResultOfMethodCallIgnored
+		result.subscribe();
+		return result;
+	}
+
+	@BeforeEach
+	public void setupBudget() {
+		IN_FLIGHT.set(0);
+		MAX_IN_FLIGHT.set(0);
+		BudgetExtension.BUDGET = new InFlightBudget(1, 0, BackpressurePolicy.BLOCK);
+		Launch launch = mock(Launch.class);
+		when(launch.startTestItem(any())).thenAnswer(i -> slowResponse(UUID.randomUUID().toString()));
+		when(launch.startTestItem(any(), any())).thenAnswer(i -> slowResponse(UUID.randomUUID().toString()));
+		when(launch.finishTestItem(any(), any())).thenAnswer(i -> slowResponse(new OperationCompletionRS()));
+		BudgetExtension.LAUNCH = launch;
+	}
+
+	@Test
+	public void verify_item_requests_are_sent_within_the_budget() {
+		TestUtils.runClasses(BudgetFeatureTest.class);
+
+		Launch launch = BudgetExtension.LAUNCH;
+		verify(launch, times(1)).startTestItem(any());
+		verify(launch, times(2)).startTestItem(any(), any());
+		verify(launch, times(3)).finishTestItem(any(), any());
+		assertThat(MAX_IN_FLIGHT.get(), equalTo(1));
+		assertThat(BudgetExtension.BUDGET.getItems(), equalTo(0));
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReservingMapTest {
+
+	private final ReservingMap<String> map = new ReservingMap<>();
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void verify_value_is_computed_once_for_concurrent_callers() throws Exception {
+		AtomicInteger computations = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> results = IntStream.range(0, 8).mapToObj(i -> executor.submit(() -> {
+			start.await();
+			return map.computeIfAbsent("key", k -> {
+				computations.incrementAndGet();
+				return k + "-value";
+			});
+		})).collect(Collectors.toList());
+		start.countDown();
+
+		for (Future<String> result : results) {
+			assertThat(result.get(10, TimeUnit.SECONDS), equalTo("key-value"));
+		}
+		assertThat(computations.get(), equalTo(1));
+	}
+
+	@Test
+	public void verify_other_keys_are_not_blocked_by_a_running_computation() throws Exception {
+		CountDownLatch computing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> slow = executor.submit(() -> map.computeIfAbsent("slow", k -> {
+			computing.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "slow-value";
+		}));
+		assertThat(computing.await(10, TimeUnit.SECONDS), equalTo(true));
+
+		Future<String> fast = executor.submit(() -> map.computeIfAbsent("fast", k -> "fast-value"));
+		assertThat(fast.get(10, TimeUnit.SECONDS), equalTo("fast-value"));
+		assertThat("The value is not published till computed", map.get("slow"), nullValue());
+
+		release.countDown();
+		assertThat(slow.get(10, TimeUnit.SECONDS), equalTo("slow-value"));
+		assertThat(map.get("slow"), equalTo("slow-value"));
+	}
+
+	@Test
+	public void verify_failed_computation_is_not_published_and_can_be_retried() {
+		assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("key", k -> {
+			throw new IllegalStateException("Failed");
+		}));
+		assertThat(map.containsKey("key"), equalTo(false));
+
+		assertThat(map.computeIfAbsent("key", k -> "value"), equalTo("value"));
+		assertThat(map.remove("key"), equalTo("value"));
+		assertThat(map.keySet(), empty());
+	}
+}
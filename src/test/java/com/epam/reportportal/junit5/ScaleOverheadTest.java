@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.scale.*;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Runs large generated suites with and without the extension and reports the agent's overhead per test. Disabled by default, to run
+ * pass the suite sizes to measure, e.g.: <code>./gradlew test --tests '*ScaleOverheadTest' -Pscale.tests=10000,100000</code>. If
+ * <code>scale.tests.maxGrowth</code> property is set the test fails when per-test overhead of the biggest suite exceeds the one of the
+ * smallest suite more than the given factor, that catches super-linear behavior.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = ScaleOverheadTest.SIZES_PROPERTY, matches = "\\d+(,\\d+)*")
+public class ScaleOverheadTest {
+
+	public static final String SIZES_PROPERTY = "scale.tests";
+	public static final String MAX_GROWTH_PROPERTY = "scale.tests.maxGrowth";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ScaleOverheadTest.class);
+
+	private static final int WARM_UP_SIZE = 1000;
+	private static final Map<String, String> EXTENSION_DISABLED = Collections.emptyMap();
+	private static final Map<String, String> EXTENSION_ENABLED = Collections.singletonMap(
+			"junit.jupiter.extensions.autodetection.enabled",
+			"true"
+	);
+
+	/**
+	 * Registered through service location, so it's applied only to runs with enabled extension autodetection
+	 */
+	public static class ScaleExtension extends ReportPortalExtension {
+		static final ReportPortal REPORT_PORTAL = ReportPortal.create(TestUtils.getStubClient(), TestUtils.standardParameters());
+		static volatile String LAUNCH_ID = UUID.randomUUID().toString();
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			return LAUNCH_ID;
+		}
+	}
+
+	public enum Suite {
+		FLAT(FlatScaleSuites::generate),
+		NESTED(size -> new Class<?>[] { NestedScaleTest.class }),
+		PARAMETERIZED(size -> new Class<?>[] { ParameterizedScaleTest.class }),
+		DYNAMIC(size -> new Class<?>[] { DynamicScaleTest.class });
+
+		private final IntFunction<Class<?>[]> classes;
+
+		Suite(IntFunction<Class<?>[]> classSupplier) {
+			classes = classSupplier;
+		}
+	}
+
+	private List<Integer> sizes;
+
+	@BeforeAll
+	public void parseSizes() {
+		sizes = Arrays.stream(System.getProperty(SIZES_PROPERTY).split(","))
+				.map(Integer::parseInt)
+				.sorted()
+				.collect(Collectors.toList());
+	}
+
+	private static long run(Map<String, String> configuration, Class<?>[] classes, int size) {
+		ScaleParameters.setTestsPerSuite(size);
+		ScaleExtension.LAUNCH_ID = UUID.randomUUID().toString();
+		long start = System.nanoTime();
+		TestUtils.runClasses(configuration, classes);
+		if (configuration == EXTENSION_ENABLED) {
+			new ScaleExtension().finish();
+		}
+		return System.nanoTime() - start;
+	}
+
+	@ParameterizedTest
+	@EnumSource(Suite.class)
+	public void measure_extension_overhead_per_test(Suite suite) {
+		Class<?>[] warmUpClasses = suite.classes.apply(WARM_UP_SIZE);
+		run(EXTENSION_DISABLED, warmUpClasses, WARM_UP_SIZE);
+		run(EXTENSION_ENABLED, warmUpClasses, WARM_UP_SIZE);
+
+		Map<Integer, Double> overheads = new LinkedHashMap<>();
+		for (int size : sizes) {
+			Class<?>[] classes = suite.classes.apply(size);
+			long disabledTime = run(EXTENSION_DISABLED, classes, size);
+			long enabledTime = run(EXTENSION_ENABLED, classes, size);
+			double overhead = (double) (enabledTime - disabledTime) / size;
+			overheads.put(size, overhead);
+			LOGGER.info(String.format(
+					"Scale suite %s, %d tests: without extension %d ms, with extension %d ms, overhead per test %.0f ns",
+					suite,
+					size,
+					disabledTime / 1_000_000,
+					enabledTime / 1_000_000,
+					overhead
+			));
+		}
+
+		double growth = overheads.get(sizes.get(sizes.size() - 1)) / overheads.get(sizes.get(0));
+		LOGGER.info(String.format("Scale suite %s, per-test overhead growth from %d to %d tests: %.2f",
+				suite,
+				sizes.get(0),
+				sizes.get(sizes.size() - 1),
+				growth
+		));
+		String maxGrowth = System.getProperty(MAX_GROWTH_PROPERTY);
+		if (maxGrowth != null) {
+			assertThat(growth, lessThanOrEqualTo(Double.parseDouble(maxGrowth)));
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.spool.SpooledTest;
+import com.epam.reportportal.junit5.spool.JournalReader;
+import com.epam.reportportal.junit5.spool.JournalRecord;
+import com.epam.reportportal.junit5.spool.JournalReportPortalClient;
+import com.epam.reportportal.junit5.spool.JournalWriter;
+import com.epam.reportportal.junit5.spool.MultipartCodec;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SpoolTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	public static class SpoolExtension extends ReportPortalExtension {
+		static volatile ReportPortal REPORT_PORTAL;
+		static volatile String LAUNCH_ID;
+
+		public static void init(JournalReportPortalClient client) {
+			REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+			LAUNCH_ID = UUID.randomUUID().toString();
+		}
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected String getLaunchId(ExtensionContext context) {
+			return LAUNCH_ID;
+		}
+	}
+
+	private static List<JournalRecord> readJournal(Path journal) throws IOException {
+		List<JournalRecord> records = new ArrayList<>();
+		try (JournalReader reader = new JournalReader(journal)) {
+			JournalRecord record;
+			while ((record = reader.next()) != null) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+
+	private static List<JournalRecord> ofType(List<JournalRecord> records, JournalRecord.Type type) {
+		return records.stream().filter(r -> r.getType() == type).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_all_events_are_written_to_journal(@TempDir Path directory) throws IOException {
+		JournalReportPortalClient client = JournalReportPortalClient.create(directory);
+		SpoolExtension.init(client);
+
+		TestUtils.runClasses(SpooledTest.class);
+		new SpoolExtension().finish();
+
+		// the journal is closed together with the launch
+		assertThrows(RuntimeException.class, () -> client.startLaunch(new StartLaunchRQ()).blockingGet());
+
+		List<Path> journals;
+		try (Stream<Path> files = Files.list(directory)) {
+			journals = files.collect(Collectors.toList());
+		}
+		assertThat(journals, hasSize(1));
+		assertThat(journals.get(0).getFileName().toString(), endsWith(JournalReportPortalClient.JOURNAL_EXTENSION));
+
+		List<JournalRecord> records = readJournal(journals.get(0));
+		assertThat(records.get(0).getType(), equalTo(JournalRecord.Type.START_LAUNCH));
+		assertThat(records.get(records.size() - 1).getType(), equalTo(JournalRecord.Type.FINISH_LAUNCH));
+		String launchUuid = records.get(0).getUuid();
+		assertThat(launchUuid, notNullValue());
+		assertThat(records.get(records.size() - 1).getUuid(), equalTo(launchUuid));
+
+		List<JournalRecord> starts = ofType(records, JournalRecord.Type.START_ITEM);
+		assertThat(starts, hasSize(3));
+		JournalRecord suite = starts.get(0);
+		assertThat(suite.getParentUuid(), nullValue());
+		StartTestItemRQ suiteRq = MAPPER.readValue(suite.getPayload(), StartTestItemRQ.class);
+		assertThat(suiteRq.getUuid(), equalTo(suite.getUuid()));
+		assertThat(suiteRq.getLaunchUuid(), equalTo(launchUuid));
+		starts.subList(1, starts.size()).forEach(step -> assertThat(step.getParentUuid(), equalTo(suite.getUuid())));
+
+		Map<String, String> finishStatuses = new HashMap<>();
+		for (JournalRecord finish : ofType(records, JournalRecord.Type.FINISH_ITEM)) {
+			finishStatuses.put(finish.getUuid(), MAPPER.readValue(finish.getPayload(), FinishTestItemRQ.class).getStatus());
+		}
+		assertThat(finishStatuses.keySet(), equalTo(starts.stream().map(JournalRecord::getUuid).collect(Collectors.toSet())));
+		assertThat(finishStatuses.values(), hasItem(ItemStatus.FAILED.name()));
+
+		List<String> logs = new ArrayList<>();
+		for (JournalRecord batch : ofType(records, JournalRecord.Type.LOG_BATCH)) {
+			for (MultipartBody.Part part : MultipartCodec.decode(batch.getPayload())) {
+				Buffer content = new Buffer();
+				part.body().writeTo(content);
+				logs.add(content.readString(StandardCharsets.UTF_8));
+			}
+		}
+		assertThat(logs, hasItem(containsString(SpooledTest.FAILURE_MESSAGE)));
+	}
+
+	@Test
+	public void verify_journal_is_appended_across_regions(@TempDir Path directory) throws IOException {
+		Path journal = directory.resolve("test" + JournalReportPortalClient.JOURNAL_EXTENSION);
+		byte[] payload = new byte[1024 * 1024];
+		Arrays.fill(payload, (byte) 1);
+		try (JournalWriter writer = new JournalWriter(journal)) {
+			for (int i = 0; i < 10; i++) {
+				writer.append(new JournalRecord(JournalRecord.Type.LOG, "log-" + i, null, payload));
+			}
+		}
+		try (JournalWriter writer = new JournalWriter(journal)) {
+			writer.append(new JournalRecord(JournalRecord.Type.FINISH_LAUNCH, "launch", null, new byte[0]));
+		}
+
+		List<JournalRecord> records = readJournal(journal);
+		assertThat(records, hasSize(11));
+		for (int i = 0; i < 10; i++) {
+			assertThat(records.get(i).getUuid(), equalTo("log-" + i));
+			assertThat(records.get(i).getPayload(), equalTo(payload));
+		}
+		assertThat(records.get(10).getType(), equalTo(JournalRecord.Type.FINISH_LAUNCH));
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.trace.RepeatedFailureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StackTraceTest {
+
+	public static class StackTraceExtension extends ReportPortalExtension {
+		static final Launch LAUNCH = TestUtils.getBasicMockedLaunch();
+		static final List<String> MESSAGES = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+
+		@Override
+		protected String formatStackTrace(Throwable cause) {
+			String message = super.formatStackTrace(cause);
+			MESSAGES.add(message);
+			return message;
+		}
+	}
+
+	@Test
+	public void verify_repeated_stack_trace_is_reported_once_and_referred_later() {
+		TestUtils.runClasses(RepeatedFailureTest.class);
+
+		List<String> messages = StackTraceExtension.MESSAGES;
+		assertThat(messages, hasSize(3));
+		String first = messages.get(0);
+		assertThat(first, startsWith("org.opentest4j.AssertionFailedError: Failure 1"));
+		assertThat(first, containsString("at " + RepeatedFailureTest.class.getName() + ".failingTest"));
+		assertThat(first, containsString("framework frames filtered"));
+		assertThat(first, not(containsString("org.junit.platform")));
+		String fingerprint = first.substring(first.lastIndexOf(' ') + 1);
+		assertThat(first, endsWith("Stack trace fingerprint: " + fingerprint));
+
+		messages.subList(1, messages.size()).forEach(message -> {
+			assertThat(message, startsWith("org.opentest4j.AssertionFailedError: Failure"));
+			assertThat(message, endsWith("The same stack trace was already reported in this launch, fingerprint: " + fingerprint));
+			assertThat(message.split("\n"), arrayWithSize(3));
+		});
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.status.ClassifiedFailureTest;
+import com.epam.reportportal.junit5.status.StatusClassification;
+import com.epam.reportportal.junit5.status.StatusClassifier;
+import com.epam.reportportal.junit5.status.StatusClassifiers;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+import org.opentest4j.TestAbortedException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class StatusClassifierTest {
+
+	public static final String SYSTEM_ISSUE = "si001";
+
+	/**
+	 * Registered in <code>META-INF/services/com.epam.reportportal.junit5.status.StatusClassifier</code> test resource
+	 */
+	public static class EnvironmentClassifier implements StatusClassifier {
+		@Nullable
+		@Override
+		public StatusClassification classify(@Nonnull Class<?> throwableType) {
+			return throwableType == ClassifiedFailureTest.EnvironmentException.class ?
+					StatusClassification.of(ItemStatus.FAILED, SYSTEM_ISSUE, "Environment failure") :
+					null;
+		}
+	}
+
+	public static class CustomAbortedException extends TestAbortedException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	public static class StatusClassifierExtension extends ReportPortalExtension {
+		static Launch LAUNCH;
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+	}
+
+	@BeforeEach
+	public void setupMock() {
+		StatusClassifierExtension.LAUNCH = TestUtils.getBasicMockedLaunch();
+	}
+
+	@Test
+	public void verify_classified_exception_is_reported_with_issue() {
+		TestUtils.runClasses(ClassifiedFailureTest.class);
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(StatusClassifierExtension.LAUNCH, times(2)).finishTestItem(any(), finishCaptor.capture());
+
+		List<FinishTestItemRQ> finishes = finishCaptor.getAllValues();
+		FinishTestItemRQ testFinish = finishes.get(0);
+		assertThat(testFinish.getStatus(), equalTo(ItemStatus.FAILED.name()));
+		assertThat(testFinish.getIssue(), notNullValue());
+		assertThat(testFinish.getIssue().getIssueType(), equalTo(SYSTEM_ISSUE));
+		assertThat(finishes.get(1).getIssue(), nullValue());
+	}
+
+	@Test
+	public void verify_default_classification() {
+		assertThat(StatusClassifiers.classify(new TestAbortedException()).getStatus(), equalTo(ItemStatus.SKIPPED));
+		assertThat(StatusClassifiers.classify(new CustomAbortedException()).getStatus(), equalTo(ItemStatus.SKIPPED));
+		assertThat(StatusClassifiers.classify(new IllegalStateException()).getStatus(), equalTo(ItemStatus.FAILED));
+		assertThat(StatusClassifiers.classify(new IllegalStateException()).getIssue(), nullValue());
+		assertThat(StatusClassifiers.classify(new ClassifiedFailureTest.DatabaseUnavailableException()),
+				sameInstance(StatusClassifiers.classify(new ClassifiedFailureTest.DatabaseUnavailableException()))
+		);
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.budget;
+
+import com.epam.reportportal.junit5.spool.MultipartCodec;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.buildLogMultiPartRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BudgetReportPortalClientTest {
+
+	@TempDir
+	Path spillDirectory;
+
+	private static SaveLogRQ log(String level, String message) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid("item");
+		rq.setLevel(level);
+		rq.setMessage(message);
+		return rq;
+	}
+
+	private static List<MultipartBody.Part> batch(SaveLogRQ... logs) {
+		return buildLogMultiPartRequest(Arrays.asList(logs));
+	}
+
+	private static List<String> messages(List<MultipartBody.Part> batch) throws IOException {
+		return MultipartCodec.decodeLogs(MultipartCodec.encode(batch)).stream().map(SaveLogRQ::getMessage).collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<List<MultipartBody.Part>> sentBatches(ReportPortalClient delegate, int times) {
+		ArgumentCaptor<List<MultipartBody.Part>> captor = ArgumentCaptor.forClass(List.class);
+		verify(delegate, times(times)).log(captor.capture());
+		return captor.getAllValues();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_batch_over_budget_is_sent_and_blocks_items_under_block_policy() {
+		InFlightBudget budget = new InFlightBudget(0, 1, BackpressurePolicy.BLOCK);
+		ReportPortalClient delegate = mock(ReportPortalClient.class);
+		MaybeSubject<BatchSaveOperatingRS> first = MaybeSubject.create();
+		MaybeSubject<BatchSaveOperatingRS> second = MaybeSubject.create();
+		when(delegate.log(any(List.class))).thenReturn(first, second);
+		BudgetReportPortalClient client = new BudgetReportPortalClient(delegate, budget, spillDirectory);
+
+		client.log(batch(log("INFO", "first"))).subscribe();
+		client.log(batch(log("DEBUG", "second"))).subscribe();
+		sentBatches(delegate, 2);
+		assertThat(budget.getBytes(), greaterThan(1L));
+
+		first.onSuccess(new BatchSaveOperatingRS());
+		second.onSuccess(new BatchSaveOperatingRS());
+		assertThat(budget.getBytes(), equalTo(0L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_verbose_logs_are_dropped_from_batch_over_budget() throws IOException {
+		InFlightBudget budget = new InFlightBudget(0, 1, BackpressurePolicy.DROP_LOGS);
+		ReportPortalClient delegate = mock(ReportPortalClient.class);
+		MaybeSubject<BatchSaveOperatingRS> pending = MaybeSubject.create();
+		when(delegate.log(any(List.class))).thenReturn(pending, Maybe.just(new BatchSaveOperatingRS()));
+		BudgetReportPortalClient client = new BudgetReportPortalClient(delegate, budget, spillDirectory);
+
+		client.log(batch(log("DEBUG", "in flight"))).subscribe();
+		client.log(batch(log("debug", "debug"), log("ERROR", "error"), log("TRACE", "trace"))).subscribe();
+		client.log(batch(log("TRACE", "trace only"))).subscribe();
+
+		List<List<MultipartBody.Part>> sent = sentBatches(delegate, 2);
+		assertThat(messages(sent.get(0)), contains("in flight"));
+		assertThat(messages(sent.get(1)), contains("error"));
+		assertThat(client.getDroppedLogs(), equalTo(3L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_batch_over_budget_is_spilled_and_sent_when_budget_frees_up() throws IOException {
+		InFlightBudget budget = new InFlightBudget(0, 1, BackpressurePolicy.SPILL);
+		ReportPortalClient delegate = mock(ReportPortalClient.class);
+		MaybeSubject<BatchSaveOperatingRS> pending = MaybeSubject.create();
+		when(delegate.log(any(List.class))).thenReturn(pending, Maybe.just(new BatchSaveOperatingRS()));
+		BudgetReportPortalClient client = new BudgetReportPortalClient(delegate, budget, spillDirectory);
+
+		client.log(batch(log("INFO", "in flight"))).subscribe();
+		client.log(batch(log("INFO", "first spilled"))).subscribe();
+		client.log(batch(log("INFO", "second spilled"))).subscribe();
+		sentBatches(delegate, 1);
+		assertThat(client.getSpilledBatches(), equalTo(2L));
+		try (Stream<Path> files = Files.list(spillDirectory)) {
+			assertThat(files.count(), equalTo(1L));
+		}
+
+		pending.onSuccess(new BatchSaveOperatingRS());
+
+		List<List<MultipartBody.Part>> sent = sentBatches(delegate, 3);
+		assertThat(messages(sent.get(1)), contains("first spilled"));
+		assertThat(messages(sent.get(2)), contains("second spilled"));
+		assertThat(budget.getBytes(), equalTo(0L));
+		try (Stream<Path> files = Files.list(spillDirectory)) {
+			assertThat(files.count(), equalTo(0L));
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_spilled_batches_are_sent_before_launch_finish() throws IOException {
+		InFlightBudget budget = new InFlightBudget(0, 1, BackpressurePolicy.SPILL);
+		ReportPortalClient delegate = mock(ReportPortalClient.class);
+		when(delegate.log(any(List.class))).thenReturn(MaybeSubject.create(), Maybe.just(new BatchSaveOperatingRS()));
+		when(delegate.finishLaunch(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		BudgetReportPortalClient client = new BudgetReportPortalClient(delegate, budget, spillDirectory);
+
+		client.log(batch(log("INFO", "never completed"))).subscribe();
+		client.log(batch(log("INFO", "spilled"))).subscribe();
+		Maybe<OperationCompletionRS> finish = client.finishLaunch("launch", new FinishExecutionRQ());
+		verify(delegate, never()).finishLaunch(any(), any());
+
+		finish.blockingGet();
+		List<List<MultipartBody.Part>> sent = sentBatches(delegate, 2);
+		assertThat(messages(sent.get(1)), contains("spilled"));
+		verify(delegate).finishLaunch(eq("launch"), any());
+	}
+
+	@Test
+	public void verify_close_closes_delegate_client() throws IOException {
+		ReportPortalClient delegate = mock(ReportPortalClient.class, withSettings().extraInterfaces(Closeable.class));
+		BudgetReportPortalClient client = new BudgetReportPortalClient(delegate,
+				new InFlightBudget(0, 1, BackpressurePolicy.SPILL),
+				spillDirectory
+		);
+
+		client.close();
+		verify((Closeable) delegate).close();
+	}
+}
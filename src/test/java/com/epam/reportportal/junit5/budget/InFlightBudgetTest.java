@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.budget;
+
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class InFlightBudgetTest {
+
+	@Test
+	public void verify_item_request_waits_for_a_free_slot() throws Exception {
+		InFlightBudget budget = new InFlightBudget(1, 0, BackpressurePolicy.BLOCK);
+		MaybeSubject<String> first = MaybeSubject.create();
+		budget.sendItem(() -> first);
+		assertThat(budget.getItems(), equalTo(1));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Maybe<String>> second = executor.submit(() -> budget.sendItem(() -> Maybe.just("second")));
+			assertWaiting(second);
+
+			first.onSuccess("first");
+			assertThat(second.get(10, TimeUnit.SECONDS).blockingGet(), equalTo("second"));
+			assertThat(budget.getItems(), equalTo(0));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void assertWaiting(Future<?> future) throws Exception {
+		try {
+			future.get(200, TimeUnit.MILLISECONDS);
+			throw new AssertionError("The request was sent over the budget");
+		} catch (TimeoutException expected) {
+			// the request waits
+		}
+	}
+
+	@Test
+	public void verify_item_slot_is_released_on_error_and_empty_response() {
+		InFlightBudget budget = new InFlightBudget(1, 0, BackpressurePolicy.BLOCK);
+		budget.sendItem(() -> Maybe.error(new IllegalStateException("Request failed")));
+		budget.sendItem(Maybe::empty);
+		budget.sendItem(() -> null);
+
+		assertThat(budget.getItems(), equalTo(0));
+	}
+
+	@Test
+	public void verify_item_request_waits_for_log_bytes() throws Exception {
+		InFlightBudget budget = new InFlightBudget(0, 10, BackpressurePolicy.BLOCK);
+		budget.acquireBytes(20);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Maybe<String>> item = executor.submit(() -> budget.sendItem(() -> Maybe.just("item")));
+			assertWaiting(item);
+
+			budget.releaseBytes(20);
+			assertThat(item.get(10, TimeUnit.SECONDS).blockingGet(), equalTo("item"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void verify_bytes_are_taken_within_the_budget() {
+		InFlightBudget budget = new InFlightBudget(0, 100, BackpressurePolicy.BLOCK);
+		// a batch bigger than the budget passes if nothing else is in flight
+		assertThat(budget.tryAcquireBytes(150), is(true));
+		assertThat(budget.tryAcquireBytes(1), is(false));
+		budget.releaseBytes(150);
+		assertThat(budget.tryAcquireBytes(60), is(true));
+		assertThat(budget.tryAcquireBytes(40), is(true));
+		assertThat(budget.tryAcquireBytes(1), is(false));
+		assertThat(budget.getBytes(), equalTo(100L));
+	}
+
+	@Test
+	public void verify_unlimited_budget_takes_no_slots() {
+		InFlightBudget budget = InFlightBudget.unlimited();
+		MaybeSubject<String> pending = MaybeSubject.create();
+		assertThat(budget.sendItem(() -> pending), sameInstance(pending));
+		assertThat(budget.getItems(), equalTo(0));
+		assertThat(pending.hasObservers(), is(false));
+	}
+}
@@ -0,0 +1,17 @@
+package com.epam.reportportal.junit5.features.budget;
+
+import com.epam.reportportal.junit5.ReportingBudgetTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ReportingBudgetTest.BudgetExtension.class)
+public class BudgetFeatureTest {
+
+	@Test
+	public void firstTest() {
+	}
+
+	@Test
+	public void secondTest() {
+	}
+}
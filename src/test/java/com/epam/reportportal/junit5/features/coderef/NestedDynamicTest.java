@@ -0,0 +1,27 @@
+package com.epam.reportportal.junit5.features.coderef;
+
+import com.epam.reportportal.junit5.CodeReferenceTest;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+@ExtendWith(CodeReferenceTest.CodeReferenceTestExtension.class)
+public class NestedDynamicTest {
+
+	public static final String OUTER_CONTAINER = "Outer container";
+	public static final String INNER_CONTAINER = "Inner container";
+	public static final String TEST_CASE_DISPLAY_NAME = "My dynamic test";
+
+	@TestFactory
+	Stream<DynamicNode> testForTestFactory() {
+		return Stream.of(dynamicContainer(OUTER_CONTAINER,
+				Stream.of(dynamicContainer(INNER_CONTAINER, Stream.of(dynamicTest(TEST_CASE_DISPLAY_NAME, () -> {
+				}))))
+		));
+	}
+}
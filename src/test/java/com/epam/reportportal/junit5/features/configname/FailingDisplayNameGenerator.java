@@ -0,0 +1,17 @@
+package com.epam.reportportal.junit5.features.configname;
+
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+public class FailingDisplayNameGenerator extends DisplayNameGenerator.Standard {
+
+	@Override
+	public String generateDisplayNameForMethod(Class<?> testClass, Method testMethod) {
+		if (!testMethod.isAnnotationPresent(Test.class)) {
+			throw new IllegalStateException("Unable to generate a display name for a configuration method");
+		}
+		return super.generateDisplayNameForMethod(testClass, testMethod);
+	}
+}
@@ -0,0 +1,18 @@
+package com.epam.reportportal.junit5.features.jfr;
+
+import com.epam.reportportal.junit5.FlightRecorderTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(FlightRecorderTest.FlightRecorderExtension.class)
+public class FlightRecorderFeatureTest {
+
+	@Test
+	public void passedTest() {
+	}
+
+	@Test
+	public void failedTest() {
+		throw new IllegalStateException("Test failure");
+	}
+}
@@ -0,0 +1,17 @@
+package com.epam.reportportal.junit5.features.memory;
+
+import com.epam.reportportal.junit5.MemoryRetentionTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({ MemoryRetentionTest.RetentionExtension.class, MemoryRetentionTest.InstanceTracker.class })
+public class FailedConstructorTest {
+
+	public FailedConstructorTest() {
+		throw new IllegalStateException("Constructor failure");
+	}
+
+	@Test
+	public void test() {
+	}
+}
@@ -0,0 +1,25 @@
+package com.epam.reportportal.junit5.features.memory;
+
+import com.epam.reportportal.junit5.MemoryRetentionTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+
+@ExtendWith({ MemoryRetentionTest.RetentionExtension.class, MemoryRetentionTest.InstanceTracker.class })
+public class RetainedInstanceTest {
+
+	private final byte[] payload = new byte[MemoryRetentionTest.INSTANCE_PAYLOAD];
+
+	public static IntStream arguments() {
+		return IntStream.range(0, MemoryRetentionTest.getTestNumber());
+	}
+
+	@ParameterizedTest
+	@MethodSource("arguments")
+	public void parameterizedTest(int index) {
+		payload[index % payload.length] = 1;
+		MemoryRetentionTest.onTest(index);
+	}
+}
@@ -0,0 +1,25 @@
+package com.epam.reportportal.junit5.features.metrics;
+
+import com.epam.reportportal.junit5.MetricsTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(MetricsTest.MetricsExtension.class)
+public class MetricsFeatureTest {
+
+	@Test
+	public void passedTest() {
+	}
+
+	@Test
+	public void failedTest() {
+		throw new IllegalStateException("Test failure");
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2 })
+	public void parameterizedTest(int value) {
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.parallel;
+
+import com.epam.reportportal.junit5.ParallelExecutionTest;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+@ExtendWith(ParallelExecutionTest.ParallelExtension.class)
+public class ParallelNestedTest {
+
+	public static final int ITEMS = (1 + 1 + 3) + (1 + 1 + 4) + (1 + 1 + 1 + 1 + ParallelParameters.TESTS_PER_CONTAINER);
+
+	@RepeatedTest(3)
+	public void levelZeroTest() {
+		ParallelParameters.work();
+	}
+
+	@Nested
+	public class LevelOne {
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2, 3, 4 })
+		public void levelOneTest(int index) {
+			ParallelParameters.work();
+		}
+
+		@Nested
+		public class LevelTwo {
+			@Test
+			public void levelTwoTest() {
+				ParallelParameters.work();
+			}
+
+			@TestFactory
+			public Stream<DynamicNode> levelTwoDynamicTests() {
+				return ParallelParameters.dynamicTests();
+			}
+		}
+	}
+}
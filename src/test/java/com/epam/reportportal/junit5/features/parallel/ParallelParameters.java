@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.parallel;
+
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Settings and test bodies shared by parallel execution suites, set by the harness before each run
+ */
+public class ParallelParameters {
+
+	public static final int TESTS_PER_CONTAINER = 3;
+
+	private static volatile long workNanos;
+
+	private ParallelParameters() {
+	}
+
+	public static void setWorkNanos(long nanos) {
+		workNanos = nanos;
+	}
+
+	/**
+	 * Simulates test work: keeps a CPU busy for the configured time, so tests scale with cores, not with threads
+	 */
+	public static void work() {
+		long deadline = System.nanoTime() + workNanos;
+		//noinspection StatementWithEmptyBody
+		while (System.nanoTime() - deadline < 0) {
+		}
+	}
+
+	public static Stream<DynamicNode> dynamicTests() {
+		return Stream.of(DynamicContainer.dynamicContainer("Container",
+				IntStream.range(0, TESTS_PER_CONTAINER).mapToObj(t -> DynamicTest.dynamicTest("Test " + t, ParallelParameters::work))
+		));
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.parallel;
+
+import com.epam.reportportal.junit5.ParallelExecutionTest;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.MethodCall;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit5.features.parallel.ParallelParameters.TESTS_PER_CONTAINER;
+
+/**
+ * Generates test classes reported with {@link ParallelExecutionTest.ParallelExtension}, each of them has
+ * {@link ParallelParameters#TESTS_PER_CONTAINER} <code>@Test</code> methods and a <code>@TestFactory</code> method with a dynamic
+ * container of {@link ParallelParameters#TESTS_PER_CONTAINER} dynamic tests
+ */
+public class ParallelSuites {
+
+	public static final int ITEMS_PER_CLASS = 1 + TESTS_PER_CONTAINER + 2 + TESTS_PER_CONTAINER;
+
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private ParallelSuites() {
+	}
+
+	public static Class<?>[] generate(int classes) {
+		int generation = GENERATION.incrementAndGet();
+		AnnotationDescription extension = AnnotationDescription.Builder.ofType(ExtendWith.class)
+				.defineTypeArray("value", ParallelExecutionTest.ParallelExtension.class)
+				.build();
+		AnnotationDescription testAnnotation = AnnotationDescription.Builder.ofType(Test.class).build();
+		AnnotationDescription factoryAnnotation = AnnotationDescription.Builder.ofType(TestFactory.class).build();
+		List<Class<?>> result = new ArrayList<>(classes);
+		try {
+			for (int i = 0; i < classes; i++) {
+				DynamicType.Builder<Object> builder = new ByteBuddy(ClassFileVersion.JAVA_V8).subclass(Object.class)
+						.name(ParallelSuites.class.getPackage().getName() + ".ParallelTest" + generation + "_" + i)
+						.annotateType(extension);
+				for (int j = 0; j < TESTS_PER_CONTAINER; j++) {
+					builder = builder.defineMethod("test" + j, void.class, Visibility.PUBLIC)
+							.intercept(MethodCall.invoke(ParallelParameters.class.getMethod("work")))
+							.annotateMethod(testAnnotation);
+				}
+				builder = builder.defineMethod("dynamicTests", Stream.class, Visibility.PUBLIC)
+						.intercept(MethodCall.invoke(ParallelParameters.class.getMethod("dynamicTests")))
+						.annotateMethod(factoryAnnotation);
+				result.add(builder.make().load(ParallelSuites.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded());
+			}
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+		return result.toArray(new Class<?>[0]);
+	}
+}
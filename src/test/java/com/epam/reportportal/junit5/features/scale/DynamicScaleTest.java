@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.scale;
+
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.junit5.features.scale.ScaleParameters.TESTS_PER_CONTAINER;
+
+public class DynamicScaleTest {
+
+	@TestFactory
+	public Stream<DynamicNode> dynamicTests() {
+		int containers = Math.max(1, ScaleParameters.getTestsPerSuite() / TESTS_PER_CONTAINER);
+		return IntStream.range(0, containers)
+				.mapToObj(c -> DynamicContainer.dynamicContainer(
+						"Container " + c,
+						Stream.of(DynamicContainer.dynamicContainer(
+								"Inner container " + c,
+								IntStream.range(0, TESTS_PER_CONTAINER).mapToObj(t -> DynamicTest.dynamicTest("Test " + t, () -> {
+								}))
+						))
+				));
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.features.scale;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.StubMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.epam.reportportal.junit5.features.scale.ScaleParameters.TESTS_PER_CONTAINER;
+
+/**
+ * Generates flat test classes, each of them has {@link ScaleParameters#TESTS_PER_CONTAINER} empty <code>@Test</code> methods
+ */
+public class FlatScaleSuites {
+
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private FlatScaleSuites() {
+	}
+
+	public static Class<?>[] generate(int tests) {
+		int generation = GENERATION.incrementAndGet();
+		int classes = Math.max(1, tests / TESTS_PER_CONTAINER);
+		AnnotationDescription testAnnotation = AnnotationDescription.Builder.ofType(Test.class).build();
+		List<Class<?>> result = new ArrayList<>(classes);
+		for (int i = 0; i < classes; i++) {
+			DynamicType.Builder<Object> builder = new ByteBuddy(ClassFileVersion.JAVA_V8).subclass(Object.class)
+					.name(FlatScaleSuites.class.getPackage().getName() + ".FlatScaleTest" + generation + "_" + i);
+			for (int j = 0; j < TESTS_PER_CONTAINER; j++) {
+				builder = builder.defineMethod("test" + j, void.class, Visibility.PUBLIC)
+						.intercept(StubMethod.INSTANCE)
+						.annotateMethod(testAnnotation);
+			}
+			result.add(builder.make().load(FlatScaleSuites.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded());
+		}
+		return result.toArray(new Class<?>[0]);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.scale;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class NestedScaleTest {
+
+	public static final int LEAVES = 5;
+
+	@ParameterizedTest
+	@MethodSource("com.epam.reportportal.junit5.features.scale.ScaleParameters#nestedArguments")
+	public void levelZeroTest(int index) {
+	}
+
+	@Nested
+	public class LevelOne {
+		@ParameterizedTest
+		@MethodSource("com.epam.reportportal.junit5.features.scale.ScaleParameters#nestedArguments")
+		public void levelOneTest(int index) {
+		}
+
+		@Nested
+		public class LevelTwo {
+			@ParameterizedTest
+			@MethodSource("com.epam.reportportal.junit5.features.scale.ScaleParameters#nestedArguments")
+			public void levelTwoTest(int index) {
+			}
+
+			@Nested
+			public class LevelThree {
+				@ParameterizedTest
+				@MethodSource("com.epam.reportportal.junit5.features.scale.ScaleParameters#nestedArguments")
+				public void levelThreeTest(int index) {
+				}
+
+				@Nested
+				public class LevelFour {
+					@ParameterizedTest
+					@MethodSource("com.epam.reportportal.junit5.features.scale.ScaleParameters#nestedArguments")
+					public void levelFourTest(int index) {
+					}
+				}
+			}
+		}
+	}
+}
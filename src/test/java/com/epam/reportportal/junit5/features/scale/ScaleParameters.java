@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.scale;
+
+import java.util.stream.IntStream;
+
+/**
+ * Size settings shared by generated scale suites, set by the harness before each run
+ */
+public class ScaleParameters {
+
+	public static final int TESTS_PER_CONTAINER = 100;
+
+	private static volatile int testsPerSuite = TESTS_PER_CONTAINER;
+
+	private ScaleParameters() {
+	}
+
+	public static int getTestsPerSuite() {
+		return testsPerSuite;
+	}
+
+	public static void setTestsPerSuite(int tests) {
+		testsPerSuite = tests;
+	}
+
+	public static IntStream arguments() {
+		return IntStream.range(0, testsPerSuite);
+	}
+
+	public static IntStream nestedArguments() {
+		return IntStream.range(0, testsPerSuite / NestedScaleTest.LEAVES);
+	}
+}
@@ -0,0 +1,30 @@
+package com.epam.reportportal.junit5.features.status;
+
+import com.epam.reportportal.junit5.StatusClassifierTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StatusClassifierTest.StatusClassifierExtension.class)
+public class ClassifiedFailureTest {
+
+	public static class EnvironmentException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public EnvironmentException(String message) {
+			super(message);
+		}
+	}
+
+	public static class DatabaseUnavailableException extends EnvironmentException {
+		private static final long serialVersionUID = 1L;
+
+		public DatabaseUnavailableException() {
+			super("Database is unavailable");
+		}
+	}
+
+	@Test
+	public void testEnvironmentFailure() {
+		throw new DatabaseUnavailableException();
+	}
+}
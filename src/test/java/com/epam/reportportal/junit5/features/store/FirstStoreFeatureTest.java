@@ -0,0 +1,25 @@
+package com.epam.reportportal.junit5.features.store;
+
+import com.epam.reportportal.junit5.ExtensionStoreTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ExtensionStoreTest.StoreExtension.class)
+public class FirstStoreFeatureTest {
+
+	@Test
+	public void firstTest() {
+	}
+
+	@Test
+	public void secondTest() {
+	}
+
+	@Nested
+	public class NestedTest {
+		@Test
+		public void nestedTest() {
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.epam.reportportal.junit5.features.store;
+
+import com.epam.reportportal.junit5.ExtensionStoreTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(ExtensionStoreTest.StoreExtension.class)
+public class SecondStoreFeatureTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2 })
+	public void parameterizedTest(int value) {
+	}
+}
@@ -0,0 +1,41 @@
+package com.epam.reportportal.junit5.features.trace;
+
+import com.epam.reportportal.junit5.FailureStormTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.net.ConnectException;
+import java.util.stream.IntStream;
+
+@ExtendWith(FailureStormTest.FailureStormExtension.class)
+public class FailureStormFeatureTest {
+
+	public static final int FAILURES = 55;
+
+	public static IntStream failures() {
+		return IntStream.range(0, FAILURES);
+	}
+
+	private static void open() throws ConnectException {
+		throw new ConnectException("Connection refused");
+	}
+
+	private static void connect() throws ConnectException {
+		open();
+	}
+
+	private static void callService() {
+		try {
+			connect();
+		} catch (ConnectException e) {
+			throw new IllegalStateException("Service is unavailable", e);
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("failures")
+	public void serviceTest(int index) {
+		callService();
+	}
+}
@@ -0,0 +1,17 @@
+package com.epam.reportportal.junit5.features.trace;
+
+import com.epam.reportportal.junit5.StackTraceTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(StackTraceTest.StackTraceExtension.class)
+public class RepeatedFailureTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3 })
+	public void failingTest(int value) {
+		Assertions.fail("Failure " + value);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class AgentMetricsTest {
+
+	@Test
+	public void verify_disabled_metrics_record_nothing() {
+		AgentMetrics metrics = new AgentMetrics(false);
+		metrics.record(AgentMetrics.Callback.BEFORE_ALL, metrics.start());
+		metrics.itemStarted();
+		metrics.templateStarted();
+
+		assertThat(metrics.getBeforeAllLatency().getCount(), equalTo(0L));
+		assertThat(metrics.getItemsStarted(), equalTo(0L));
+		assertThat(metrics.getOpenTemplates(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_metrics_are_published_as_mbean() throws Exception {
+		AgentMetrics metrics = new AgentMetrics(true);
+		MBeanServer server = MBeanServerFactory.newMBeanServer();
+		assertThat(metrics.register(server), is(true));
+
+		metrics.itemStarted();
+		metrics.itemStarted();
+		metrics.itemFinished();
+		metrics.templateStarted();
+		metrics.record(AgentMetrics.Callback.AFTER_ALL, metrics.start());
+
+		ObjectName name = new ObjectName(AgentMetrics.OBJECT_NAME);
+		assertThat(server.getAttribute(name, "ItemsStarted"), equalTo(2L));
+		assertThat(server.getAttribute(name, "ItemsPending"), equalTo(1L));
+		assertThat(server.getAttribute(name, "OpenTemplates"), equalTo(1L));
+		assertThat(server.getAttribute(name, "ReportingQueueDepth"), equalTo(-1));
+		CompositeData afterAll = (CompositeData) server.getAttribute(name, "AfterAllLatency");
+		assertThat(afterAll.get("count"), equalTo(1L));
+		assertThat(((CompositeData) server.getAttribute(name, "BeforeAllLatency")).get("count"), equalTo(0L));
+
+		server.invoke(name, "reset", new Object[0], new String[0]);
+		assertThat(server.getAttribute(name, "ItemsStarted"), equalTo(0L));
+		assertThat(server.getAttribute(name, "ItemsPending"), equalTo(1L));
+	}
+
+	@Test
+	public void verify_queue_depth_of_platform_executor() {
+		AgentMetrics metrics = new AgentMetrics(true);
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			metrics.setReportingExecutor(executor);
+			assertThat(metrics.getReportingQueueDepth(), equalTo(0));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
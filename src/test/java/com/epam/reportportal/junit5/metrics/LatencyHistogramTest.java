@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void verify_latencies_are_counted_by_power_of_two_buckets() {
+		assertThat(LatencyHistogram.bucketOf(-5), equalTo(0));
+		assertThat(LatencyHistogram.bucketOf(0), equalTo(0));
+		assertThat(LatencyHistogram.bucketOf(1), equalTo(1));
+		assertThat(LatencyHistogram.bucketOf(2), equalTo(2));
+		assertThat(LatencyHistogram.bucketOf(3), equalTo(2));
+		assertThat(LatencyHistogram.bucketOf(1024), equalTo(11));
+		assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE), equalTo(LatencyHistogram.BUCKETS - 1));
+		assertThat(LatencyHistogram.upperBoundOf(2), equalTo(3L));
+		assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.BUCKETS - 1), equalTo(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void verify_snapshot_statistics() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 98; i++) {
+			histogram.record(1000);
+		}
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+		LatencySnapshot snapshot = histogram.snapshot();
+		assertThat(snapshot.getCount(), equalTo(100L));
+		assertThat(snapshot.getTotalNanos(), equalTo(98_000L + 6_000_000L));
+		assertThat(snapshot.getMeanNanos(), equalTo(60_980L));
+		assertThat(snapshot.getMaxNanos(), equalTo(5_000_000L));
+		// 1000 ns falls into [512, 1024) bucket
+		assertThat(snapshot.getP50Nanos(), equalTo(1023L));
+		assertThat(snapshot.getP99Nanos(), equalTo((1L << 20) - 1));
+		assertThat(snapshot.getPercentileNanos(1), equalTo(5_000_000L));
+		assertThat(snapshot.getBuckets()[LatencyHistogram.bucketOf(1000)], equalTo(98L));
+	}
+
+	@Test
+	public void verify_reset_forgets_latencies() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(100);
+		histogram.reset();
+
+		LatencySnapshot snapshot = histogram.snapshot();
+		assertThat(snapshot.getCount(), equalTo(0L));
+		assertThat(snapshot.getMaxNanos(), equalTo(0L));
+		assertThat(snapshot.getP99Nanos(), equalTo(0L));
+	}
+}
@@ -4,6 +4,7 @@ import com.epam.reportportal.junit5.ReportPortalExtension;
 import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsDefaultDisplayNameTest;
 import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsDisplayNameGeneratorTest;
 import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsDisplayNameTest;
+import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsFailingDisplayNameGeneratorTest;
 import com.epam.reportportal.junit5.features.configname.CustomDisplayNameGenerator;
 import com.epam.reportportal.junit5.util.TestUtils;
 import com.epam.reportportal.service.Launch;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
@@ -98,4 +100,22 @@ public class DisplayNamesForConfigurationItemsTest {
 
 		IntStream.range(0, itemNames.size()).forEach(i -> assertThat(itemNames.get(i), equalTo(methodNames.get(i) + "()")));
 	}
+
+	@Test
+	public void test_configuration_method_default_name_if_display_name_generator_fails() {
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		TestUtils.runClasses(listener, ConfigurationMethodsFailingDisplayNameGeneratorTest.class);
+
+		assertThat(listener.getSummary().getTotalFailureCount(), equalTo(0L));
+		ArgumentCaptor<StartTestItemRQ> startItemCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(LAUNCH, times(5)).startTestItem(notNull(), startItemCaptor.capture()); // Start a suite and two tests
+
+		List<String> itemNames = startItemCaptor.getAllValues()
+				.stream()
+				.map(StartTestItemRQ::getName)
+				.filter(e -> !e.startsWith("test"))
+				.sorted()
+				.collect(Collectors.toList());
+		assertThat(itemNames, equalTo(Arrays.asList("afterAll()", "afterEach()", "beforeAll()", "beforeEach()")));
+	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.retention;
+
+import com.epam.reportportal.junit5.spool.MultipartCodec;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.buildLogMultiPartRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class RetentionReportPortalClientTest {
+
+	private static final String ITEM = "item";
+	private static final long BUFFER_SIZE = 1024 * 1024;
+
+	private ReportPortalClient delegate;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setupDelegate() {
+		delegate = mock(ReportPortalClient.class);
+		when(delegate.log(any(List.class))).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		when(delegate.finishTestItem(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(delegate.finishLaunch(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+	}
+
+	private static SaveLogRQ log(String itemUuid, String level, String message) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(level);
+		rq.setMessage(message);
+		return rq;
+	}
+
+	private static List<MultipartBody.Part> batch(SaveLogRQ... logs) {
+		return buildLogMultiPartRequest(Arrays.asList(logs));
+	}
+
+	private static FinishTestItemRQ finish(ItemStatus status) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(status == null ? null : status.name());
+		return rq;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> sentMessages(int batches) throws IOException {
+		ArgumentCaptor<List<MultipartBody.Part>> captor = ArgumentCaptor.forClass(List.class);
+		verify(delegate, times(batches)).log(captor.capture());
+		List<String> messages = new ArrayList<>();
+		for (List<MultipartBody.Part> batch : captor.getAllValues()) {
+			messages.addAll(MultipartCodec.decodeLogs(MultipartCodec.encode(batch))
+					.stream()
+					.map(SaveLogRQ::getMessage)
+					.collect(Collectors.toList()));
+		}
+		return messages;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_of_failed_item_are_sent_before_the_item_finish() throws IOException {
+		RetentionReportPortalClient client = new RetentionReportPortalClient(delegate, null, BUFFER_SIZE);
+		client.log(batch(log(ITEM, "DEBUG", "debug"), log(ITEM, "INFO", "info"))).blockingGet();
+		verify(delegate, never()).log(any(List.class));
+
+		client.finishTestItem(ITEM, finish(ItemStatus.FAILED)).blockingGet();
+
+		assertThat(sentMessages(1), contains("debug", "info"));
+		InOrder order = inOrder(delegate);
+		order.verify(delegate).log(any(List.class));
+		order.verify(delegate).finishTestItem(eq(ITEM), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_of_passed_item_are_dropped() {
+		RetentionReportPortalClient client = new RetentionReportPortalClient(delegate, null, BUFFER_SIZE);
+		client.log(batch(log(ITEM, "DEBUG", "debug"), log(ITEM, "ERROR", "error"))).blockingGet();
+		client.finishTestItem(ITEM, finish(ItemStatus.PASSED)).blockingGet();
+		// a late log of the finished item
+		client.log(batch(log(ITEM, "INFO", "late"))).blockingGet();
+
+		verify(delegate, never()).log(any(List.class));
+		verify(delegate).finishTestItem(eq(ITEM), any());
+		assertThat(client.getDroppedLogs(), equalTo(3L));
+	}
+
+	@Test
+	public void verify_logs_of_passed_item_are_reduced_to_the_level() throws IOException {
+		RetentionReportPortalClient client = new RetentionReportPortalClient(delegate, "warn", BUFFER_SIZE);
+		client.log(batch(log(ITEM, "DEBUG", "debug"), log(ITEM, "WARN", "warn"), log(ITEM, "ERROR", "error"))).blockingGet();
+		client.finishTestItem(ITEM, finish(ItemStatus.PASSED)).blockingGet();
+		client.log(batch(log(ITEM, "TRACE", "late trace"), log(ITEM, "FATAL", "late fatal"))).blockingGet();
+
+		assertThat(sentMessages(2), contains("warn", "error", "late fatal"));
+	}
+
+	@Test
+	public void verify_launch_logs_and_logs_of_failed_items_are_not_buffered() throws IOException {
+		RetentionReportPortalClient client = new RetentionReportPortalClient(delegate, null, BUFFER_SIZE);
+		client.finishTestItem(ITEM, finish(ItemStatus.FAILED)).blockingGet();
+		client.log(batch(log(null, "DEBUG", "launch"), log(ITEM, "DEBUG", "late"), log("other", "DEBUG", "buffered"))).blockingGet();
+
+		assertThat(sentMessages(1), contains("launch", "late"));
+	}
+
+	@Test
+	public void verify_full_buffer_keeps_the_latest_logs() throws IOException {
+		RetentionReportPortalClient client = new RetentionReportPortalClient(delegate, null, 1);
+		client.log(batch(log(ITEM, "DEBUG", "first"), log(ITEM, "DEBUG", "second"))).blockingGet();
+		client.log(batch(log(ITEM, "DEBUG", "third"))).blockingGet();
+		client.finishTestItem(ITEM, finish(null)).blockingGet();
+
+		assertThat(sentMessages(1), contains("third"));
+		assertThat(client.getDroppedLogs(), equalTo(2L));
+	}
+
+	@Test
+	public void verify_logs_of_unfinished_items_are_sent_before_the_launch_finish() throws IOException {
+		RetentionReportPortalClient client = new RetentionReportPortalClient(delegate, null, BUFFER_SIZE);
+		client.log(batch(log(ITEM, "DEBUG", "unfinished"))).blockingGet();
+		client.finishLaunch("launch", new FinishExecutionRQ()).blockingGet();
+
+		assertThat(sentMessages(1), contains("unfinished"));
+		verify(delegate).finishLaunch(eq("launch"), any());
+	}
+
+	@Test
+	public void verify_close_closes_delegate_client() throws IOException {
+		ReportPortalClient closeable = mock(ReportPortalClient.class, withSettings().extraInterfaces(Closeable.class));
+		new RetentionReportPortalClient(closeable, null, BUFFER_SIZE).close();
+		verify((Closeable) closeable).close();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.junit5.trace.FailureStormDetector.Occurrence.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FailureStormDetectorTest {
+
+	@Test
+	public void verify_storm_starts_after_threshold_failures_within_window() {
+		FailureStormDetector detector = new FailureStormDetector(3, TimeUnit.MINUTES.toMillis(1));
+
+		assertThat(detector.register("cluster", "first"), equalTo(REGULAR));
+		assertThat(detector.register("other", "other"), equalTo(REGULAR));
+		assertThat(detector.register("cluster", "second"), equalTo(REGULAR));
+		assertThat(detector.getStorms().keySet(), empty());
+		assertThat(detector.register("cluster", "third"), equalTo(STORM_STARTED));
+		assertThat(detector.register("cluster", "fourth"), equalTo(STORM));
+
+		assertThat(detector.getStorms().keySet(), contains("cluster"));
+		FailureStormDetector.Cluster cluster = detector.getStorms().get("cluster");
+		assertThat(cluster.getCount(), equalTo(4));
+		assertThat(cluster.getDescription(), equalTo("first"));
+	}
+
+	@Test
+	public void verify_failures_out_of_window_do_not_start_storm() throws InterruptedException {
+		FailureStormDetector detector = new FailureStormDetector(2, 10);
+
+		assertThat(detector.register("cluster", "first"), equalTo(REGULAR));
+		Thread.sleep(50);
+		assertThat(detector.register("cluster", "second"), equalTo(REGULAR));
+		assertThat(detector.register("cluster", "third"), equalTo(STORM_STARTED));
+	}
+
+	@Test
+	public void verify_non_positive_threshold_disables_detection() {
+		FailureStormDetector detector = new FailureStormDetector(0, TimeUnit.MINUTES.toMillis(1));
+		for (int i = 0; i < 10; i++) {
+			assertThat(detector.register("cluster", "failure"), equalTo(REGULAR));
+		}
+		assertThat(detector.getStorms().keySet(), empty());
+	}
+
+	@Test
+	public void verify_reset_forgets_storms() {
+		FailureStormDetector detector = new FailureStormDetector(1, TimeUnit.MINUTES.toMillis(1));
+		assertThat(detector.register("cluster", "failure"), equalTo(STORM_STARTED));
+
+		detector.reset();
+
+		assertThat(detector.getStorms().keySet(), empty());
+		assertThat(detector.register("cluster", "failure"), equalTo(STORM_STARTED));
+	}
+}
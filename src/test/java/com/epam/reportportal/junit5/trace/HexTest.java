@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HexTest {
+
+	@Test
+	public void verify_leading_bytes_are_encoded_in_lower_case() {
+		byte[] bytes = new byte[] { 0x01, (byte) 0xab, (byte) 0xff, 0x10, 0x7f };
+		assertThat(Hex.encode(bytes, 4), equalTo("01abff10"));
+		assertThat(Hex.encode(bytes, 0), equalTo(""));
+	}
+}
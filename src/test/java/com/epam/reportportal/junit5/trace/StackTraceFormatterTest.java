@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.trace;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StackTraceFormatterTest {
+
+	private static final StackTraceElement THROW_SITE = new StackTraceElement("org.junit.jupiter.api.Assertions", "fail", "Assertions.java", 10);
+	private static final StackTraceElement TEST_FRAME = new StackTraceElement("com.example.MyTest", "test", "MyTest.java", 20);
+	private static final StackTraceElement OTHER_TEST_FRAME = new StackTraceElement("com.example.MyTest", "other", "MyTest.java", 30);
+	private static final StackTraceElement REFLECTION_FRAME = new StackTraceElement("java.lang.reflect.Method", "invoke", "Method.java", 498);
+	private static final StackTraceElement ENGINE_FRAME = new StackTraceElement("org.junit.platform.Engine", "execute", "Engine.java", 1);
+	private static final StackTraceElement WORKER_FRAME = new StackTraceElement("worker.org.gradle.Worker", "main", "Worker.java", 2);
+
+	private static final StackTraceFormatter FORMATTER = new StackTraceFormatter(StackTraceFormatter.DEFAULT_FILTERED_PACKAGES, 10, 2);
+
+	private static Throwable exception(String message, StackTraceElement... frames) {
+		Throwable result = new AssertionError(message);
+		result.setStackTrace(frames);
+		return result;
+	}
+
+	@Test
+	public void verify_framework_frames_are_filtered_except_the_top_one() {
+		StackTrace trace = FORMATTER.format(exception("Failure", THROW_SITE, TEST_FRAME, REFLECTION_FRAME, ENGINE_FRAME, WORKER_FRAME));
+
+		assertThat(
+				trace.getText(),
+				equalTo("java.lang.AssertionError: Failure\n\tat " + THROW_SITE + "\n\tat " + TEST_FRAME
+						+ "\n\t... 3 framework frames filtered")
+		);
+		assertThat(trace.getHeadline(), equalTo("java.lang.AssertionError: Failure\n\tat " + THROW_SITE));
+	}
+
+	@Test
+	public void verify_no_frames_are_filtered_without_packages() {
+		StackTraceFormatter formatter = new StackTraceFormatter(Collections.emptyList(), 0, -1);
+		StackTrace trace = formatter.format(exception("Failure", THROW_SITE, TEST_FRAME, REFLECTION_FRAME, ENGINE_FRAME));
+
+		assertThat(trace.getText(), not(containsString("filtered")));
+		assertThat(trace.getText(), containsString(ENGINE_FRAME.toString()));
+	}
+
+	@Test
+	public void verify_frame_number_is_limited() {
+		StackTraceElement[] frames = new StackTraceElement[25];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i] = new StackTraceElement("com.example.Recursive", "call", "Recursive.java", i);
+		}
+		StackTrace trace = FORMATTER.format(exception("Too deep", frames));
+
+		assertThat(trace.getText().split("\n"), arrayWithSize(12));
+		assertThat(trace.getText(), endsWith("\t... 15 more frames truncated"));
+	}
+
+	@Test
+	public void verify_common_frames_of_causes_are_omitted_and_cause_number_is_limited() {
+		Throwable root = exception("Root", OTHER_TEST_FRAME, TEST_FRAME);
+		Throwable second = new IllegalStateException("Second", root);
+		second.setStackTrace(new StackTraceElement[] { OTHER_TEST_FRAME, TEST_FRAME });
+		Throwable first = new IllegalStateException("First", second);
+		first.setStackTrace(new StackTraceElement[] { THROW_SITE, TEST_FRAME });
+		Throwable top = new RuntimeException("Top", first);
+		top.setStackTrace(new StackTraceElement[] { TEST_FRAME });
+
+		String text = FORMATTER.format(top).getText();
+
+		assertThat(text, containsString("Caused by: java.lang.IllegalStateException: First\n\tat " + THROW_SITE + "\n\t... 1 more"));
+		assertThat(text, containsString("Caused by: java.lang.IllegalStateException: Second"));
+		assertThat(text, not(containsString("Root")));
+		assertThat(text, endsWith("\t... more nested exceptions truncated"));
+	}
+
+	@Test
+	public void verify_circular_causes_are_printed_once() {
+		IllegalStateException first = new IllegalStateException("First");
+		IllegalStateException second = new IllegalStateException("Second", first);
+		first.initCause(second);
+
+		String text = new StackTraceFormatter(Collections.emptyList(), 0, -1).format(first).getText();
+
+		assertThat(text, containsString("[CIRCULAR REFERENCE: java.lang.IllegalStateException: First]"));
+	}
+
+	@Test
+	public void verify_fingerprint_does_not_depend_on_message_but_depends_on_frames() {
+		StackTrace first = FORMATTER.format(exception("Expected 1", THROW_SITE, TEST_FRAME, ENGINE_FRAME));
+		StackTrace second = FORMATTER.format(exception("Expected 2", THROW_SITE, TEST_FRAME, REFLECTION_FRAME, ENGINE_FRAME));
+		StackTrace third = FORMATTER.format(exception("Expected 1", THROW_SITE, OTHER_TEST_FRAME, ENGINE_FRAME));
+
+		assertThat(first.getFingerprint(), equalTo(second.getFingerprint()));
+		assertThat(first.getFingerprint(), not(equalTo(third.getFingerprint())));
+		assertThat(first.getFingerprint().length(), equalTo(16));
+	}
+
+	@Test
+	public void verify_root_cause_fingerprint_depends_only_on_root_cause_top_frames() {
+		StackTraceElement socketFrame = new StackTraceElement("java.net.Socket", "connect", "Socket.java", 589);
+		StackTraceElement clientFrame = new StackTraceElement("com.example.Client", "call", "Client.java", 42);
+		Throwable first = new IllegalStateException("First", exception("Refused", socketFrame, clientFrame, TEST_FRAME));
+		first.setStackTrace(new StackTraceElement[] { clientFrame, TEST_FRAME });
+		Throwable second = exception("Refused", socketFrame, clientFrame, OTHER_TEST_FRAME);
+
+		StackTrace firstTrace = new StackTraceFormatter(StackTraceFormatter.DEFAULT_FILTERED_PACKAGES, 0, -1).format(first);
+		StackTrace secondTrace = new StackTraceFormatter(StackTraceFormatter.DEFAULT_FILTERED_PACKAGES, 0, -1).format(second);
+
+		assertThat(firstTrace.getFingerprint(), not(equalTo(secondTrace.getFingerprint())));
+		assertThat(firstTrace.getRootCauseFingerprint(), not(equalTo(secondTrace.getRootCauseFingerprint())));
+
+		StackTraceElement libraryFrame = new StackTraceElement("java.net.Socket", "open", "Socket.java", 600);
+		Throwable third = exception("Refused", libraryFrame, socketFrame, clientFrame, TEST_FRAME);
+		Throwable fourth = new IllegalStateException("Wrapped", exception("Refused", libraryFrame, socketFrame, clientFrame, OTHER_TEST_FRAME));
+
+		assertThat(FORMATTER.format(third).getRootCauseFingerprint(), equalTo(FORMATTER.format(fourth).getRootCauseFingerprint()));
+	}
+
+	@Test
+	public void verify_suppressed_exceptions_are_printed_with_indentation() {
+		Throwable top = exception("Top", TEST_FRAME);
+		top.addSuppressed(exception("Suppressed one", OTHER_TEST_FRAME, TEST_FRAME));
+
+		String text = FORMATTER.format(top).getText();
+
+		assertThat(
+				Arrays.asList(text.split("\n")),
+				hasItems("\tSuppressed: java.lang.AssertionError: Suppressed one", "\t\tat " + OTHER_TEST_FRAME, "\t\t... 1 more")
+		);
+	}
+}
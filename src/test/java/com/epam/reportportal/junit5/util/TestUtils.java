@@ -28,14 +28,20 @@ import java.util.stream.Stream;
 
 import static com.epam.reportportal.util.test.CommonUtils.createMaybeUuid;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class TestUtils {
 
 	private TestUtils() {
 	}
 
+	/**
+	 * @return Java version the tests run on against the multi-release JAR, or <code>0</code> if they run against class directories
+	 */
+	public static int getMultiReleaseVersion() {
+		return Integer.parseInt(System.getProperty("multi.release.version", "0"));
+	}
+
 	public static ListenerParameters standardParameters() {
 		ListenerParameters result = new ListenerParameters();
 		result.setClientJoin(false);
@@ -47,12 +53,24 @@ public class TestUtils {
 	}
 
 	public static void runClasses(final Class<?>... testClasses) {
-		runClasses(null, testClasses);
+		runClasses((TestExecutionListener) null, testClasses);
 	}
 
 	public static void runClasses(final TestExecutionListener listener, final Class<?>... testClasses) {
+		runClasses(listener, Collections.emptyMap(), testClasses);
+	}
+
+	public static void runClasses(final Map<String, String> configurationParameters, final Class<?>... testClasses) {
+		runClasses(null, configurationParameters, testClasses);
+	}
+
+	public static void runClasses(final TestExecutionListener listener, final Map<String, String> configurationParameters,
+			final Class<?>... testClasses) {
 		ClassSelector[] classSelectors = Stream.of(testClasses).map(DiscoverySelectors::selectClass).toArray(ClassSelector[]::new);
-		LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request().selectors(classSelectors).build();
+		LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+				.selectors(classSelectors)
+				.configurationParameters(configurationParameters)
+				.build();
 		LauncherConfig.Builder builder = LauncherConfig.builder();
 		if (listener != null) {
 			builder.addTestExecutionListeners(listener);
@@ -68,6 +86,37 @@ public class TestUtils {
 		return result;
 	}
 
+	/**
+	 * @return a client which answers every request with a generated response and doesn't record invocations, to use in big runs
+	 */
+	public static ReportPortalClient getStubClient() {
+		return stubClient(mock(ReportPortalClient.class, withSettings().stubOnly()));
+	}
+
+	/**
+	 * @return a client which answers every request with a generated response and records invocations, to verify them
+	 */
+	public static ReportPortalClient getRecordingStubClient() {
+		return stubClient(mock(ReportPortalClient.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ReportPortalClient stubClient(ReportPortalClient client) {
+		when(client.startLaunch(any())).thenAnswer(i -> Maybe.just(new StartLaunchRS(UUID.randomUUID().toString(), 1L)));
+		when(client.startTestItem(any())).thenAnswer(i -> {
+			String uuid = UUID.randomUUID().toString();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		});
+		when(client.startTestItem(any(), any())).thenAnswer(i -> {
+			String uuid = UUID.randomUUID().toString();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		});
+		when(client.finishTestItem(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.log(any(List.class))).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		return client;
+	}
+
 	public static void mockLaunch(ReportPortalClient client, String launchUuid, String testClassUuid, String testMethodUuid) {
 		mockLaunch(client, launchUuid, testClassUuid, Collections.singleton(testMethodUuid));
 	}
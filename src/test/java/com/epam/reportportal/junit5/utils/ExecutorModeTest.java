@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.junit5.util.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ExecutorModeTest {
+
+	private static String threadName(ExecutorService executor) throws Exception {
+		try {
+			return executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void verify_mode_parsing() {
+		assertThat(ExecutorMode.of(null), equalTo(ExecutorMode.PLATFORM));
+		assertThat(ExecutorMode.of("platform"), equalTo(ExecutorMode.PLATFORM));
+		assertThat(ExecutorMode.of("Virtual"), equalTo(ExecutorMode.VIRTUAL));
+		assertThat(ExecutorMode.of("green"), equalTo(ExecutorMode.PLATFORM));
+	}
+
+	@Test
+	public void verify_platform_mode_uses_platform_threads() throws Exception {
+		assertThat(threadName(ExecutorMode.PLATFORM.newExecutor(1)), equalTo("rp-io-1"));
+	}
+
+	@Test
+	public void verify_virtual_mode_falls_back_to_platform_threads_if_not_supported() throws Exception {
+		String name = threadName(ExecutorMode.VIRTUAL.newExecutor(1));
+		if (ReportingExecutors.isVirtualThreadSupported()) {
+			assertThat(name, startsWith("rp-io-virtual-"));
+		} else {
+			assertThat(name, equalTo("rp-io-1"));
+		}
+	}
+
+	/**
+	 * Runs in <code>testJava21</code> task against the built multi-release JAR, which must contain the Java 21 executors
+	 */
+	@Test
+	public void verify_virtual_mode_uses_virtual_threads_from_multi_release_jar() throws Exception {
+		assumeTrue(TestUtils.getMultiReleaseVersion() >= 21, "Runs on Java 21+ against the multi-release JAR");
+		assertThat(ReportingExecutors.isVirtualThreadSupported(), equalTo(true));
+		Method isVirtual = Thread.class.getMethod("isVirtual");
+		ExecutorService executor = ExecutorMode.VIRTUAL.newExecutor(1);
+		try {
+			assertThat(executor.submit(() -> isVirtual.invoke(Thread.currentThread())).get(10, TimeUnit.SECONDS), equalTo(true));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
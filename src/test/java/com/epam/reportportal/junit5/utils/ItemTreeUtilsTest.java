@@ -25,9 +25,11 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Optional;
+
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -132,6 +134,28 @@ class ItemTreeUtilsTest {
 		assertThat(retrievedLeaf.getItemId(), equalTo(itemId));
 	}
 
+	@Test
+	void retrieveLeafByExtensionContext() {
+		ExtensionContext engineContext = mock(ExtensionContext.class);
+		when(engineContext.getUniqueId()).thenReturn("[engine:junit-jupiter]");
+		when(engineContext.getParent()).thenReturn(Optional.empty());
+		ExtensionContext classContext = mock(ExtensionContext.class);
+		when(classContext.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:MyTest]");
+		when(classContext.getParent()).thenReturn(Optional.of(engineContext));
+		when(extensionContext.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:MyTest]/[method:test()]");
+		when(extensionContext.getParent()).thenReturn(Optional.of(classContext));
+
+		TestItemTree.TestItemLeaf classLeaf = TestItemTree.createTestItemLeaf(createIdMaybe("class"));
+		TestItemTree.TestItemLeaf itemLeaf = TestItemTree.createTestItemLeaf(createIdMaybe("class"), createIdMaybe("first"));
+		testItemTree.getTestItems().put(TestItemTree.ItemTreeKey.of(classContext.getUniqueId()), classLeaf);
+		testItemTree.getTestItems().put(TestItemTree.ItemTreeKey.of(NAME), TestItemTree.createTestItemLeaf(createIdMaybe("other")));
+		classLeaf.getChildItems().put(TestItemTree.ItemTreeKey.of(extensionContext.getUniqueId()), itemLeaf);
+
+		assertThat(ItemTreeUtils.retrieveLeaf(extensionContext, testItemTree), sameInstance(itemLeaf));
+		assertThat(ItemTreeUtils.retrieveLeaf(classContext, testItemTree), sameInstance(classLeaf));
+		assertThat(ItemTreeUtils.retrieveLeaf(engineContext, testItemTree), nullValue());
+	}
+
 	public static Maybe<String> createIdMaybe(String id) {
 		return Maybe.create(emitter -> {
 			emitter.onSuccess(id);
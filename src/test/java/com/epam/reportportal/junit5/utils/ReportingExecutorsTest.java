@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.junit5.util.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReportingExecutorsTest {
+
+	@Test
+	public void verify_platform_thread_executor_uses_daemon_threads() throws Exception {
+		ExecutorService executor = ReportingExecutors.newPlatformThreadExecutor(2);
+		try {
+			assertThat(executor.submit(() -> Thread.currentThread().isDaemon()).get(10, TimeUnit.SECONDS), equalTo(true));
+			assertThat(executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS), startsWith("rp-io-"));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * The base version doesn't support virtual threads, the Java 21 version from the multi-release JAR does
+	 */
+	@Test
+	public void verify_virtual_thread_executor_is_available_only_if_supported() throws Exception {
+		if (TestUtils.getMultiReleaseVersion() >= 21) {
+			assertThat(ReportingExecutors.isVirtualThreadSupported(), equalTo(true));
+		}
+		if (!ReportingExecutors.isVirtualThreadSupported()) {
+			assertThrows(UnsupportedOperationException.class, ReportingExecutors::newVirtualThreadExecutor);
+			return;
+		}
+		ExecutorService executor = ReportingExecutors.newVirtualThreadExecutor();
+		try {
+			assertThat(executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS),
+					startsWith("rp-io-virtual-")
+			);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}